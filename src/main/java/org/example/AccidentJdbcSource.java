@@ -0,0 +1,121 @@
+package org.example;
+
+import org.example.TxtToDocxConverter.Accident;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Чтение аварий напрямую из базы NMS, без промежуточного дампа alarm_data.sql.
+ * <p>
+ * Колонки читаются по позиции — в том же порядке, в каком их выгружает {@code COPY},
+ * поэтому разбор совпадает с {@link TxtToDocxConverter#parseSqlFile(String)}.
+ * Таблица alarmeventcategory небольшая и загружается целиком, а alarmdataentity
+ * читается курсором порциями по {@code fetchSize} строк.
+ */
+public class AccidentJdbcSource {
+
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    // Номера колонок alarmdataentity (с 1, как в JDBC)
+    private static final int SEVERITY_COLUMN = 2;
+    private static final int NAME_RUS_COLUMN = 3;
+    private static final int DESCRIPTION_COLUMN = 5;
+    private static final int OPERATOR_ACTION_COLUMN = 6;
+    private static final int EVENT_TYPE_COLUMN = 7;
+    private static final int CATEGORY_COLUMN = 8;
+    private static final int HIERARCHY_COLUMN = 10;
+
+    private final Connection connection;
+    private final int fetchSize;
+
+    public AccidentJdbcSource(Connection connection) {
+        this(connection, DEFAULT_FETCH_SIZE);
+    }
+
+    public AccidentJdbcSource(Connection connection, int fetchSize) {
+        this.connection = connection;
+        this.fetchSize = fetchSize;
+    }
+
+    public List<Accident> readAccidents() throws SQLException {
+        List<Accident> accidents = new ArrayList<>();
+        forEachAccident(accidents::add);
+        return accidents;
+    }
+
+    public void forEachAccident(Consumer<Accident> consumer) throws SQLException {
+        Map<String, String> eventCategoryMap = readCategories();
+
+        // PostgreSQL использует серверный курсор только вне режима autocommit.
+        // Если вызывающий код уже ведет транзакцию, она остается под его управлением.
+        boolean autoCommit = connection.getAutoCommit();
+        if (!autoCommit) {
+            readAccidents(consumer, eventCategoryMap);
+            return;
+        }
+
+        connection.setAutoCommit(false);
+        try {
+            readAccidents(consumer, eventCategoryMap);
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void readAccidents(Consumer<Accident> consumer, Map<String, String> eventCategoryMap) throws SQLException {
+        try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet rs = statement.executeQuery("SELECT * FROM alarmdataentity")) {
+                if (rs.getMetaData().getColumnCount() < HIERARCHY_COLUMN) {
+                    throw new SQLException("В таблице alarmdataentity меньше " + HIERARCHY_COLUMN + " колонок");
+                }
+                while (rs.next()) {
+                    Accident accident = TxtToDocxConverter.toAccident(
+                            getString(rs, HIERARCHY_COLUMN),
+                            getString(rs, SEVERITY_COLUMN),
+                            getString(rs, CATEGORY_COLUMN),
+                            getString(rs, EVENT_TYPE_COLUMN),
+                            getString(rs, DESCRIPTION_COLUMN),
+                            getString(rs, OPERATOR_ACTION_COLUMN),
+                            getString(rs, NAME_RUS_COLUMN),
+                            eventCategoryMap);
+                    if (accident != null) {
+                        consumer.accept(accident);
+                    }
+                }
+            }
+        }
+    }
+
+    private Map<String, String> readCategories() throws SQLException {
+        Map<String, String> eventCategoryMap = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM alarmeventcategory")) {
+            while (rs.next()) {
+                String id = rs.getString(1);
+                String categoryName = rs.getString(2);
+                if (id != null && categoryName != null) {
+                    eventCategoryMap.put(id, categoryName);
+                }
+            }
+        }
+        return eventCategoryMap;
+    }
+
+    private static String getString(ResultSet rs, int column) throws SQLException {
+        String value = rs.getString(column);
+        return value == null ? "-" : value;
+    }
+}
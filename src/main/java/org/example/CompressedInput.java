@@ -0,0 +1,80 @@
+package org.example;
+
+import io.airlift.compress.zstd.ZstdInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Открытие входного дампа с определением сжатия по сигнатуре файла.
+ * <p>
+ * Поддерживаются обычный текст, gzip и zstd. Распаковка идет потоком прямо в парсер,
+ * без записи распакованного файла на диск. Большие многочленные gzip-файлы
+ * распаковываются на нескольких ядрах ({@link ParallelGzipInputStream}).
+ */
+public final class CompressedInput {
+
+    public enum Format {
+        PLAIN,
+        GZIP,
+        ZSTD
+    }
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // Меньшие файлы быстрее распаковать в одном потоке, чем делить на части
+    private static final long PARALLEL_GZIP_THRESHOLD = 8L * 1024 * 1024;
+
+    private CompressedInput() {
+    }
+
+    public static Format detectFormat(Path path) throws IOException {
+        byte[] magic = new byte[4];
+        int length = 0;
+        try (InputStream in = Files.newInputStream(path)) {
+            int read;
+            while (length < magic.length && (read = in.read(magic, length, magic.length - length)) != -1) {
+                length += read;
+            }
+        }
+        return detectFormat(magic, length);
+    }
+
+    static Format detectFormat(byte[] magic, int length) {
+        if (length >= 2 && (magic[0] & 0xFF) == 0x1F && (magic[1] & 0xFF) == 0x8B) {
+            return Format.GZIP;
+        }
+        if (length >= 4 && (magic[0] & 0xFF) == 0x28 && (magic[1] & 0xFF) == 0xB5
+                && (magic[2] & 0xFF) == 0x2F && (magic[3] & 0xFF) == 0xFD) {
+            return Format.ZSTD;
+        }
+        return Format.PLAIN;
+    }
+
+    public static InputStream open(Path path) throws IOException {
+        switch (detectFormat(path)) {
+            case GZIP:
+                int threads = Runtime.getRuntime().availableProcessors();
+                long size = Files.size(path);
+                if (threads > 1 && size >= PARALLEL_GZIP_THRESHOLD) {
+                    return new ParallelGzipInputStream(path, threads);
+                }
+                return new GZIPInputStream(Files.newInputStream(path), BUFFER_SIZE);
+            case ZSTD:
+                return new ZstdInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+            default:
+                return Files.newInputStream(path);
+        }
+    }
+
+    public static BufferedReader openReader(Path path, Charset charset) throws IOException {
+        return new BufferedReader(new InputStreamReader(open(path), charset), BUFFER_SIZE);
+    }
+}
@@ -0,0 +1,243 @@
+package org.example;
+
+import org.example.TxtToDocxConverter.Accident;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Режим наблюдения: пересобирает отчеты (DOCX, ODT, HTML, Markdown) только когда реально
+ * изменились дамп или шаблон.
+ * <p>
+ * События файловой системы собираются в пачку (debounce), после чего сравниваются
+ * SHA-256 входных файлов с последней успешной сборкой. Одновременно выполняется не
+ * больше одной конвертации и не больше одной ждет в очереди. Отчеты записываются через
+ * {@link TxtToDocxConverter#writeReports}: каждый файл пишется во временный рядом с
+ * выходным и затем атомарно переименовывается.
+ */
+public class ConversionWatcher implements AutoCloseable {
+
+    private static final long DEFAULT_DEBOUNCE_MILLIS = 2000;
+
+    /**
+     * Сборка отчетов по входным файлам. Вызывается только когда их содержимое изменилось.
+     */
+    @FunctionalInterface
+    public interface Conversion {
+        void convert(Path sqlFile, Path templateFile) throws IOException;
+    }
+
+    private final Path sqlFile;
+    private final Path templateFile;
+    private final long debounceMillis;
+    private final Conversion conversion;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "report-conversion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private boolean running;
+    private boolean queued;
+
+    // Хеши входных файлов на момент последней успешной конвертации
+    private byte[] lastSqlHash;
+    private byte[] lastTemplateHash;
+
+    /**
+     * @param outputBasePath путь к выходным файлам без расширения
+     */
+    public ConversionWatcher(Path sqlFile, Path templateFile, Path outputBasePath) {
+        this(sqlFile, templateFile, outputBasePath, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public ConversionWatcher(Path sqlFile, Path templateFile, Path outputBasePath, long debounceMillis) {
+        this(sqlFile, templateFile, debounceMillis, reportConversion(outputBasePath.toAbsolutePath().normalize()));
+    }
+
+    public ConversionWatcher(Path sqlFile, Path templateFile, long debounceMillis, Conversion conversion) {
+        this.sqlFile = sqlFile.toAbsolutePath().normalize();
+        this.templateFile = templateFile.toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        this.conversion = conversion;
+    }
+
+    /**
+     * Сборка всех форматов отчета через {@link TxtToDocxConverter#writeReports}.
+     */
+    public static Conversion reportConversion(Path outputBasePath) {
+        return (sqlFile, templateFile) -> {
+            List<Accident> accidents = TxtToDocxConverter.parseSqlFile(sqlFile.toString());
+            if (accidents.isEmpty()) {
+                System.out.println("Нет данных для записи в DOCX файл.");
+                return;
+            }
+            TxtToDocxConverter.writeReports(TxtToDocxConverter.buildReport(accidents), outputBasePath.toString(),
+                    TxtToDocxConverter.createReportWriters(templateFile.toString()));
+            System.out.println("SQL файл успешно преобразован в DOCX, ODT, HTML и Markdown.");
+        };
+    }
+
+    public static void main(String[] args) {
+        Path sqlFilePath = Paths.get("D:/Alarm/alarm_data.sql"); // Путь к файлу SQL
+        Path outputBasePath = Paths.get("D:/Alarm/alarmD"); // Путь к выходным файлам без расширения
+        Path templateFilePath = Paths.get("D:/Alarm/nms1.docx"); // Путь к шаблону DOCX файлу
+
+        try (ConversionWatcher watcher = new ConversionWatcher(sqlFilePath, templateFilePath, outputBasePath)) {
+            watcher.watch();
+        } catch (IOException e) {
+            System.err.println("Ошибка наблюдения за файлами: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Блокирует текущий поток и следит за изменениями до прерывания.
+     */
+    public void watch() throws IOException, InterruptedException {
+        Set<Path> watchedFiles = Set.of(sqlFile, templateFile);
+        Set<Path> directories = new HashSet<>();
+        for (Path file : watchedFiles) {
+            directories.add(file.getParent());
+        }
+
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            for (Path directory : directories) {
+                directory.register(watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+
+            // Первая сборка при запуске, дальше только по изменениям
+            requestConversion();
+
+            // Время последнего события по наблюдаемым файлам; события по другим файлам
+            // каталога (в том числе временные файлы самих отчетов) debounce не продлевают
+            long lastChangeNanos = 0;
+            boolean pending = false;
+            while (true) {
+                WatchKey key;
+                if (!pending) {
+                    key = watchService.take();
+                } else {
+                    long remaining = TimeUnit.MILLISECONDS.toNanos(debounceMillis) - (System.nanoTime() - lastChangeNanos);
+                    key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                }
+
+                if (key == null) {
+                    // За время debounce наблюдаемые файлы не менялись — запись завершена
+                    pending = false;
+                    requestConversion();
+                    continue;
+                }
+
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    boolean matches = event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || watchedFiles.contains(directory.resolve((Path) event.context()));
+                    if (matches) {
+                        pending = true;
+                        lastChangeNanos = System.nanoTime();
+                    }
+                }
+                if (!key.reset()) {
+                    throw new IOException("Каталог больше недоступен для наблюдения: " + directory);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ставит конвертацию в очередь. Если конвертация уже идет, после нее будет
+     * выполнена ровно одна повторная, сколько бы запросов ни пришло.
+     */
+    public void requestConversion() {
+        synchronized (lock) {
+            if (running) {
+                queued = true;
+                return;
+            }
+            running = true;
+        }
+        executor.execute(this::runConversions);
+    }
+
+    private void runConversions() {
+        while (true) {
+            try {
+                convertIfChanged();
+            } catch (Exception e) {
+                System.err.println("Произошла ошибка при преобразовании файла: " + e.getMessage());
+            }
+
+            synchronized (lock) {
+                if (!queued) {
+                    running = false;
+                    return;
+                }
+                queued = false;
+            }
+        }
+    }
+
+    private void convertIfChanged() throws IOException {
+        if (!Files.exists(sqlFile) || !Files.exists(templateFile)) {
+            return;
+        }
+
+        byte[] sqlHash = hash(sqlFile);
+        byte[] templateHash = hash(templateFile);
+        if (Arrays.equals(sqlHash, lastSqlHash) && Arrays.equals(templateHash, lastTemplateHash)) {
+            return;
+        }
+
+        conversion.convert(sqlFile, templateFile);
+
+        // Хеши запоминаются только после успешной сборки, иначе следующая попытка будет пропущена
+        lastSqlHash = sqlHash;
+        lastTemplateHash = templateHash;
+    }
+
+    private static byte[] hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return digest.digest();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
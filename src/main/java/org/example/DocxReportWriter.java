@@ -0,0 +1,262 @@
+package org.example;
+
+import org.apache.poi.xwpf.model.XWPFHeaderFooterPolicy;
+import org.apache.poi.xwpf.usermodel.*;
+import org.apache.xmlbeans.XmlException;
+import org.openxmlformats.schemas.officeDocument.x2006.sharedTypes.STOnOff1;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.*;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Вывод отчета в DOCX: стили из шаблона, содержание, заголовки разделов с новой
+ * страницы и номера страниц в верхнем колонтитуле.
+ */
+public class DocxReportWriter implements ReportWriter {
+
+    // Таблица "параметр — значение": подпись жирным, без границ
+    private static final TableBuilder KEY_VALUE_TABLE = new TableBuilder()
+            .addColumn("Параметр", true)
+            .addColumn("Значение")
+            .withoutHeaderRow()
+            .withoutBorders()
+            .width(100)
+            .font("Times New Roman", 12);
+
+    private final String templateFilePath;
+
+    public DocxReportWriter(String templateFilePath) {
+        this.templateFilePath = templateFilePath;
+    }
+
+    @Override
+    public String getExtension() {
+        return "docx";
+    }
+
+    @Override
+    public void write(Report report, OutputStream out) throws IOException {
+        XWPFDocument template;
+        try (FileInputStream fis = new FileInputStream(templateFilePath)) {
+            template = new XWPFDocument(fis);
+        }
+
+        try (XWPFDocument document = new XWPFDocument()) {
+
+            // Копируем стили из шаблона
+            XWPFStyles newStyles = document.createStyles();
+            newStyles.setStyles(template.getStyle());
+
+            // Добавляем настраиваемые стили заголовков
+            addCustomHeadingStyle(document, "Heading1", 1);
+            addCustomHeadingStyle(document, "Heading2", 2);
+
+            // Создаем содержание
+            createTableOfContents(document);
+
+            // Добавляем разделы отчета
+            addSections(document, report);
+
+            // Добавляем номера страниц в верхний колонтитул
+            addPageNumbers(document);
+
+            document.write(out);
+        } catch (XmlException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void createTableOfContents(XWPFDocument document) {
+        // Заголовок "СОДЕРЖАНИЕ"
+        XWPFParagraph tocTitleParagraph = document.createParagraph();
+        tocTitleParagraph.setAlignment(ParagraphAlignment.CENTER);
+        XWPFRun tocTitleRun = tocTitleParagraph.createRun();
+        tocTitleRun.setText("СОДЕРЖАНИЕ");
+        tocTitleRun.setFontSize(16);
+        tocTitleRun.setFontFamily("Times New Roman");
+        tocTitleRun.setBold(false);
+
+        // Создаем TOC
+        CTSdtBlock sdtBlock = document.getDocument().getBody().addNewSdt();
+        CTSdtPr sdtPr = sdtBlock.addNewSdtPr();
+        CTString docPart = sdtPr.addNewDocPartObj().addNewDocPartGallery();
+        docPart.setVal("Table of Contents");
+        sdtPr.addNewDocPartObj().addNewDocPartUnique().setVal(STOnOff1.ON);
+
+        CTSdtContentBlock sdtContentBlock = sdtBlock.addNewSdtContent();
+        XWPFParagraph paragraph = document.createParagraph();
+        CTP ctp = paragraph.getCTP();
+        sdtContentBlock.set(ctp);
+        CTSimpleField tocField = ctp.addNewFldSimple();
+        tocField.setInstr("TOC \\o \"1-3\" \\h \\z \\u");
+
+        // Создаем параграф для содержания
+        XWPFRun run = paragraph.createRun();
+        run.setFontFamily("Times New Roman");
+        run.setFontSize(12); // Обычный текст, 12pt
+        run.setBold(false); // Убираем жирный шрифт для содержания
+
+        // Вставка пустого пробела для обновления TOC
+        run.setText(" ");
+
+        // Настраиваем стили TOC
+        addTOCStyles(document);
+    }
+
+    private void addTOCStyles(XWPFDocument document) {
+        addCustomHeadingStyle(document, "TOCHeading", 1);
+        addCustomHeadingStyle(document, "TOC1", 2);
+        addCustomHeadingStyle(document, "TOC2", 3);
+        addCustomHeadingStyle(document, "TOC3", 4);
+    }
+
+    private void addSections(XWPFDocument document, Report report) {
+        for (Report.Section section : report.getSections()) {
+            // Добавляем заголовок раздела
+            XWPFParagraph sectionParagraph = document.createParagraph();
+            sectionParagraph.setStyle("Heading1");
+            sectionParagraph.setPageBreak(true); // Начать с новой страницы
+            sectionParagraph.setAlignment(ParagraphAlignment.CENTER); // Выравнивание по центру
+            XWPFRun sectionRun = sectionParagraph.createRun();
+            sectionRun.setBold(true);
+            sectionRun.setFontSize(16);
+            sectionRun.setText(section.getTitle());
+            sectionRun.setFontFamily("Times New Roman");
+            sectionRun.addBreak();
+
+            for (Report.Block block : section.getBlocks()) {
+                if (block instanceof Report.Heading heading) {
+                    addHeading(document, heading);
+                } else if (block instanceof Report.KeyValueTable table) {
+                    KEY_VALUE_TABLE.build(document, table.getRows());
+                } else if (block instanceof Report.FormattedParagraph formattedParagraph) {
+                    XWPFParagraph paragraph = document.createParagraph();
+                    paragraph.setFirstLineIndent(600); // Отступ 1,5 см
+                    createFormattedParagraph(paragraph, formattedParagraph.getLabel(), formattedParagraph.getLines(), true);
+                }
+            }
+        }
+    }
+
+    private void addHeading(XWPFDocument document, Report.Heading heading) {
+        // Добавляем заголовок с номером
+        XWPFParagraph nameParagraph = document.createParagraph();
+        nameParagraph.setStyle("Heading2");
+        nameParagraph.setFirstLineIndent(600); // Отступ 1,5 см
+
+        CTPPr ppr = nameParagraph.getCTP().getPPr();
+        if (ppr == null) ppr = nameParagraph.getCTP().addNewPPr();
+
+        CTOnOff keepNext = ppr.isSetKeepNext() ? ppr.getKeepNext() : ppr.addNewKeepNext();
+        keepNext.setVal(STOnOff1.ON);
+
+        CTOnOff keepLines = ppr.isSetKeepLines() ? ppr.getKeepLines() : ppr.addNewKeepLines();
+        keepLines.setVal(STOnOff1.ON);
+
+        XWPFRun nameRun = nameParagraph.createRun();
+        nameRun.setBold(true);
+        nameRun.setFontSize(14);
+        nameRun.setFontFamily("Times New Roman");
+        nameRun.setText(heading.getNumber() + " " + heading.getText());
+        nameRun.addBreak();
+    }
+
+    private void createFormattedParagraph(XWPFParagraph paragraph, String label, List<String> lines, boolean boldLabel) {
+        XWPFRun run = paragraph.createRun();
+        run.setBold(boldLabel);
+        run.setText(label);
+        run.setFontFamily("Times New Roman");
+        run.setFontSize(12);
+        run.addBreak();
+
+        for (String line : lines) {
+            XWPFRun textRun = paragraph.createRun();
+            textRun.setText(line);
+            textRun.setFontFamily("Times New Roman");
+            textRun.setFontSize(12);
+            textRun.addBreak();
+        }
+    }
+
+    private void addPageNumbers(XWPFDocument document) {
+        CTSectPr sectPr = document.getDocument().getBody().addNewSectPr();
+        XWPFHeaderFooterPolicy headerFooterPolicy = new XWPFHeaderFooterPolicy(document, sectPr);
+
+        // Создаем верхний колонтитул
+        XWPFHeader header = headerFooterPolicy.createHeader(XWPFHeaderFooterPolicy.DEFAULT);
+        XWPFParagraph paragraph = header.getParagraphArray(0);
+        if (paragraph == null) {
+            paragraph = header.createParagraph();
+        }
+
+        paragraph.setAlignment(ParagraphAlignment.CENTER);
+        XWPFRun run = paragraph.createRun();
+        run.setFontFamily("Times New Roman");
+        run.setFontSize(12);
+        run.setText("");
+        run.getCTR().addNewFldChar().setFldCharType(STFldCharType.BEGIN);
+        run = paragraph.createRun();
+        run.setFontFamily("Times New Roman");
+        run.setFontSize(12);
+        run.getCTR().addNewInstrText().setStringValue("PAGE \\* MERGEFORMAT");
+        run = paragraph.createRun();
+        run.setFontFamily("Times New Roman");
+        run.setFontSize(12);
+        run.getCTR().addNewFldChar().setFldCharType(STFldCharType.SEPARATE);
+        run = paragraph.createRun();
+        run.setFontFamily("Times New Roman");
+        run.setFontSize(12);
+        run.getCTR().addNewT().setStringValue("1");
+        run = paragraph.createRun();
+        run.setFontFamily("Times New Roman");
+        run.setFontSize(12);
+        run.getCTR().addNewFldChar().setFldCharType(STFldCharType.END);
+
+        // Добавляем текст "7.ТАИЦ.00018-01 34 02" в центр верхнего колонтитула
+        XWPFParagraph footerParagraph = header.createParagraph();
+        footerParagraph.setAlignment(ParagraphAlignment.CENTER);
+        XWPFRun footerRun = footerParagraph.createRun();
+        footerRun.setFontFamily("Times New Roman");
+        footerRun.setFontSize(12);
+        footerRun.setText("7.ТАИЦ.00018-01 34 02");
+    }
+
+    private void addCustomHeadingStyle(XWPFDocument docxDocument, String strStyleId, int headingLevel) {
+
+        CTStyle ctStyle = CTStyle.Factory.newInstance();
+        ctStyle.setStyleId(strStyleId);
+
+        CTString styleName = CTString.Factory.newInstance();
+        styleName.setVal(strStyleId);
+        ctStyle.setName(styleName);
+
+        CTDecimalNumber indentNumber = CTDecimalNumber.Factory.newInstance();
+        indentNumber.setVal(BigInteger.valueOf(headingLevel));
+
+        // lower number > style is more prominent in the formats bar
+        ctStyle.setUiPriority(indentNumber);
+
+        CTOnOff onoffnull = CTOnOff.Factory.newInstance();
+        ctStyle.setUnhideWhenUsed(onoffnull);
+
+        // style shows up in the formats bar
+        ctStyle.setQFormat(onoffnull);
+
+        // style defines a heading of the given level
+        CTPPrGeneral ppr = CTPPrGeneral.Factory.newInstance();
+        ppr.setOutlineLvl(indentNumber);
+        ctStyle.setPPr(ppr);
+
+        XWPFStyle style = new XWPFStyle(ctStyle);
+
+        // is a null op if already defined
+        XWPFStyles styles = docxDocument.createStyles();
+
+        style.setType(STStyleType.PARAGRAPH);
+        styles.addStyle(style);
+    }
+}
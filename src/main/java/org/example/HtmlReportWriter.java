@@ -0,0 +1,114 @@
+package org.example;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Вывод отчета в HTML для веб-портала. Документ пишется потоком,
+ * в начале — содержание со ссылками на разделы и заголовки.
+ */
+public class HtmlReportWriter implements ReportWriter {
+
+    @Override
+    public String getExtension() {
+        return "html";
+    }
+
+    @Override
+    public void write(Report report, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        writer.write("<!DOCTYPE html>\n<html lang=\"ru\">\n<head>\n<meta charset=\"UTF-8\">\n<title>");
+        writer.write(escape(report.getTitle()));
+        writer.write("</title>\n</head>\n<body>\n");
+
+        writeTableOfContents(report, writer);
+
+        int sectionNumber = 1;
+        for (Report.Section section : report.getSections()) {
+            writer.write("<section>\n<h1 id=\"s" + sectionNumber + "\">");
+            writer.write(escape(section.getTitle()));
+            writer.write("</h1>\n");
+
+            for (Report.Block block : section.getBlocks()) {
+                if (block instanceof Report.Heading heading) {
+                    writer.write("<h2 id=\"h" + heading.getNumber() + "\">");
+                    writer.write(escape(heading.getNumber() + " " + heading.getText()));
+                    writer.write("</h2>\n");
+                } else if (block instanceof Report.KeyValueTable table) {
+                    writer.write("<table>\n");
+                    for (String[] row : table.getRows()) {
+                        writer.write("<tr><th>");
+                        writer.write(escape(row[0]));
+                        writer.write("</th><td>");
+                        writer.write(escape(row.length > 1 ? row[1] : ""));
+                        writer.write("</td></tr>\n");
+                    }
+                    writer.write("</table>\n");
+                } else if (block instanceof Report.FormattedParagraph paragraph) {
+                    writer.write("<p><strong>");
+                    writer.write(escape(paragraph.getLabel()));
+                    writer.write("</strong>");
+                    for (String line : paragraph.getLines()) {
+                        writer.write("<br>\n");
+                        writer.write(escape(line));
+                    }
+                    writer.write("</p>\n");
+                }
+            }
+            writer.write("</section>\n");
+            sectionNumber++;
+        }
+
+        writer.write("</body>\n</html>\n");
+        writer.flush();
+    }
+
+    private void writeTableOfContents(Report report, Writer writer) throws IOException {
+        writer.write("<nav>\n<h1>СОДЕРЖАНИЕ</h1>\n<ul>\n");
+        int sectionNumber = 1;
+        for (Report.Section section : report.getSections()) {
+            writer.write("<li><a href=\"#s" + sectionNumber + "\">");
+            writer.write(escape(section.getTitle()));
+            writer.write("</a>\n<ul>\n");
+            for (Report.Block block : section.getBlocks()) {
+                if (block instanceof Report.Heading heading) {
+                    writer.write("<li><a href=\"#h" + heading.getNumber() + "\">");
+                    writer.write(escape(heading.getNumber() + " " + heading.getText()));
+                    writer.write("</a></li>\n");
+                }
+            }
+            writer.write("</ul>\n</li>\n");
+            sectionNumber++;
+        }
+        writer.write("</ul>\n</nav>\n");
+    }
+
+    static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
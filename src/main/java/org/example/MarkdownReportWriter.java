@@ -0,0 +1,69 @@
+package org.example;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Вывод отчета в Markdown. Таблица "параметр — значение" выводится списком,
+ * строки абзаца разделяются жесткими переносами.
+ */
+public class MarkdownReportWriter implements ReportWriter {
+
+    // Переход на новую строку внутри абзаца в Markdown
+    private static final String HARD_BREAK = "  \n";
+
+    @Override
+    public String getExtension() {
+        return "md";
+    }
+
+    @Override
+    public void write(Report report, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        for (Report.Section section : report.getSections()) {
+            writer.write("# " + escape(section.getTitle()) + "\n\n");
+
+            for (Report.Block block : section.getBlocks()) {
+                if (block instanceof Report.Heading heading) {
+                    writer.write("## " + escape(heading.getNumber() + " " + heading.getText()) + "\n\n");
+                } else if (block instanceof Report.KeyValueTable table) {
+                    for (String[] row : table.getRows()) {
+                        writer.write("- **" + escape(row[0].trim()) + "** " + escape(row.length > 1 ? row[1] : "") + "\n");
+                    }
+                    writer.write("\n");
+                } else if (block instanceof Report.FormattedParagraph paragraph) {
+                    writer.write("**" + escape(paragraph.getLabel().trim()) + "**");
+                    for (String line : paragraph.getLines()) {
+                        writer.write(HARD_BREAK);
+                        writer.write(escape(line));
+                    }
+                    writer.write("\n\n");
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n') {
+                sb.append(HARD_BREAK);
+                continue;
+            }
+            // Дефис или плюс в начале строки Markdown считает пунктом списка
+            boolean lineStart = i == 0 || text.charAt(i - 1) == '\n';
+            if ("\\`*_[]<>#|".indexOf(c) >= 0 || lineStart && (c == '-' || c == '+')) {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,275 @@
+package org.example;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Вывод отчета в ODT (OpenDocument Text). content.xml пишется потоком через StAX
+ * прямо в zip-архив, без построения дерева документа в памяти.
+ */
+public class OdtReportWriter implements ReportWriter {
+
+    private static final String MIMETYPE = "application/vnd.oasis.opendocument.text";
+
+    private static final String OFFICE_NS = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+    private static final String STYLE_NS = "urn:oasis:names:tc:opendocument:xmlns:style:1.0";
+    private static final String TEXT_NS = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+    private static final String TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+    private static final String FO_NS = "urn:oasis:names:tc:opendocument:xmlns:xsl-fo-compatible:1.0";
+
+    private static final String MANIFEST = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <manifest:manifest xmlns:manifest="urn:oasis:names:tc:opendocument:xmlns:manifest:1.0" manifest:version="1.2">
+             <manifest:file-entry manifest:full-path="/" manifest:version="1.2" manifest:media-type="application/vnd.oasis.opendocument.text"/>
+             <manifest:file-entry manifest:full-path="content.xml" manifest:media-type="text/xml"/>
+             <manifest:file-entry manifest:full-path="styles.xml" manifest:media-type="text/xml"/>
+            </manifest:manifest>
+            """;
+
+    // Стили соответствуют DOCX: Times New Roman, заголовки 16 и 14 pt, текст 12 pt
+    private static final String STYLES = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <office:document-styles xmlns:office="urn:oasis:names:tc:opendocument:xmlns:office:1.0" \
+            xmlns:style="urn:oasis:names:tc:opendocument:xmlns:style:1.0" \
+            xmlns:fo="urn:oasis:names:tc:opendocument:xmlns:xsl-fo-compatible:1.0" office:version="1.2">
+             <office:styles>
+              <style:default-style style:family="paragraph">
+               <style:text-properties fo:font-family="'Times New Roman'" fo:font-size="12pt"/>
+              </style:default-style>
+              <style:style style:name="Standard" style:family="paragraph" style:class="text"/>
+              <style:style style:name="Heading_20_1" style:display-name="Heading 1" style:family="paragraph" \
+            style:parent-style-name="Standard" style:default-outline-level="1" style:class="text">
+               <style:text-properties fo:font-size="16pt" fo:font-weight="bold"/>
+              </style:style>
+              <style:style style:name="Heading_20_2" style:display-name="Heading 2" style:family="paragraph" \
+            style:parent-style-name="Standard" style:default-outline-level="2" style:class="text">
+               <style:paragraph-properties fo:text-indent="1.06cm" fo:keep-with-next="always"/>
+               <style:text-properties fo:font-size="14pt" fo:font-weight="bold"/>
+              </style:style>
+             </office:styles>
+            </office:document-styles>
+            """;
+
+    @Override
+    public String getExtension() {
+        return "odt";
+    }
+
+    @Override
+    public void write(Report report, OutputStream out) throws IOException {
+        // Поток принадлежит вызывающему коду: закрывается только архив (это освобождает
+        // его Deflater), сам поток остается открытым
+        OutputStream nonClosing = new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+
+        try (ZipOutputStream zip = new ZipOutputStream(nonClosing, StandardCharsets.UTF_8)) {
+            // mimetype должен быть первым и без сжатия
+            byte[] mimetype = MIMETYPE.getBytes(StandardCharsets.US_ASCII);
+            ZipEntry mimetypeEntry = new ZipEntry("mimetype");
+            mimetypeEntry.setMethod(ZipEntry.STORED);
+            mimetypeEntry.setSize(mimetype.length);
+            mimetypeEntry.setCompressedSize(mimetype.length);
+            CRC32 crc = new CRC32();
+            crc.update(mimetype);
+            mimetypeEntry.setCrc(crc.getValue());
+            zip.putNextEntry(mimetypeEntry);
+            zip.write(mimetype);
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("META-INF/manifest.xml"));
+            zip.write(MANIFEST.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("styles.xml"));
+            zip.write(STYLES.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+
+            zip.putNextEntry(new ZipEntry("content.xml"));
+            try {
+                XMLStreamWriter xml = XMLOutputFactory.newInstance().createXMLStreamWriter(zip, "UTF-8");
+                writeContent(report, xml);
+                xml.close();
+            } catch (XMLStreamException e) {
+                throw new IOException("Ошибка записи content.xml", e);
+            }
+            zip.closeEntry();
+        }
+    }
+
+    private void writeContent(Report report, XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeStartDocument("UTF-8", "1.0");
+        xml.setPrefix("office", OFFICE_NS);
+        xml.setPrefix("style", STYLE_NS);
+        xml.setPrefix("text", TEXT_NS);
+        xml.setPrefix("table", TABLE_NS);
+        xml.setPrefix("fo", FO_NS);
+
+        xml.writeStartElement(OFFICE_NS, "document-content");
+        xml.writeNamespace("office", OFFICE_NS);
+        xml.writeNamespace("style", STYLE_NS);
+        xml.writeNamespace("text", TEXT_NS);
+        xml.writeNamespace("table", TABLE_NS);
+        xml.writeNamespace("fo", FO_NS);
+        xml.writeAttribute(OFFICE_NS, "version", "1.2");
+
+        writeAutomaticStyles(xml);
+
+        xml.writeStartElement(OFFICE_NS, "body");
+        xml.writeStartElement(OFFICE_NS, "text");
+
+        writeTableOfContents(xml);
+
+        int tableNumber = 1;
+        for (Report.Section section : report.getSections()) {
+            xml.writeStartElement(TEXT_NS, "h");
+            xml.writeAttribute(TEXT_NS, "style-name", "SectionHeading");
+            xml.writeAttribute(TEXT_NS, "outline-level", "1");
+            xml.writeCharacters(section.getTitle());
+            xml.writeEndElement();
+
+            for (Report.Block block : section.getBlocks()) {
+                if (block instanceof Report.Heading heading) {
+                    xml.writeStartElement(TEXT_NS, "h");
+                    xml.writeAttribute(TEXT_NS, "style-name", "Heading_20_2");
+                    xml.writeAttribute(TEXT_NS, "outline-level", "2");
+                    xml.writeCharacters(heading.getNumber() + " " + heading.getText());
+                    xml.writeEndElement();
+                } else if (block instanceof Report.KeyValueTable table) {
+                    writeKeyValueTable(xml, table, "Table" + tableNumber++);
+                } else if (block instanceof Report.FormattedParagraph paragraph) {
+                    xml.writeStartElement(TEXT_NS, "p");
+                    xml.writeAttribute(TEXT_NS, "style-name", "Indented");
+                    writeBold(xml, paragraph.getLabel());
+                    for (String line : paragraph.getLines()) {
+                        xml.writeEmptyElement(TEXT_NS, "line-break");
+                        xml.writeCharacters(line);
+                    }
+                    xml.writeEndElement();
+                }
+            }
+        }
+
+        xml.writeEndElement(); // office:text
+        xml.writeEndElement(); // office:body
+        xml.writeEndElement(); // office:document-content
+        xml.writeEndDocument();
+    }
+
+    private void writeAutomaticStyles(XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeStartElement(OFFICE_NS, "automatic-styles");
+
+        // Заголовок раздела с новой страницы и по центру
+        xml.writeStartElement(STYLE_NS, "style");
+        xml.writeAttribute(STYLE_NS, "name", "SectionHeading");
+        xml.writeAttribute(STYLE_NS, "family", "paragraph");
+        xml.writeAttribute(STYLE_NS, "parent-style-name", "Heading_20_1");
+        xml.writeEmptyElement(STYLE_NS, "paragraph-properties");
+        xml.writeAttribute(FO_NS, "break-before", "page");
+        xml.writeAttribute(FO_NS, "text-align", "center");
+        xml.writeEndElement();
+
+        xml.writeStartElement(STYLE_NS, "style");
+        xml.writeAttribute(STYLE_NS, "name", "Centered");
+        xml.writeAttribute(STYLE_NS, "family", "paragraph");
+        xml.writeAttribute(STYLE_NS, "parent-style-name", "Standard");
+        xml.writeEmptyElement(STYLE_NS, "paragraph-properties");
+        xml.writeAttribute(FO_NS, "text-align", "center");
+        xml.writeEmptyElement(STYLE_NS, "text-properties");
+        xml.writeAttribute(FO_NS, "font-size", "16pt");
+        xml.writeEndElement();
+
+        // Отступ первой строки 1,5 см, как в DOCX
+        xml.writeStartElement(STYLE_NS, "style");
+        xml.writeAttribute(STYLE_NS, "name", "Indented");
+        xml.writeAttribute(STYLE_NS, "family", "paragraph");
+        xml.writeAttribute(STYLE_NS, "parent-style-name", "Standard");
+        xml.writeEmptyElement(STYLE_NS, "paragraph-properties");
+        xml.writeAttribute(FO_NS, "text-indent", "1.06cm");
+        xml.writeEndElement();
+
+        xml.writeStartElement(STYLE_NS, "style");
+        xml.writeAttribute(STYLE_NS, "name", "Bold");
+        xml.writeAttribute(STYLE_NS, "family", "text");
+        xml.writeEmptyElement(STYLE_NS, "text-properties");
+        xml.writeAttribute(FO_NS, "font-weight", "bold");
+        xml.writeEndElement();
+
+        // Таблица на всю ширину страницы, без границ
+        xml.writeStartElement(STYLE_NS, "style");
+        xml.writeAttribute(STYLE_NS, "name", "KeyValue");
+        xml.writeAttribute(STYLE_NS, "family", "table");
+        xml.writeEmptyElement(STYLE_NS, "table-properties");
+        xml.writeAttribute(TABLE_NS, "align", "margins");
+        xml.writeEndElement();
+
+        xml.writeEndElement();
+    }
+
+    private void writeTableOfContents(XMLStreamWriter xml) throws XMLStreamException {
+        xml.writeStartElement(TEXT_NS, "p");
+        xml.writeAttribute(TEXT_NS, "style-name", "Centered");
+        xml.writeCharacters("СОДЕРЖАНИЕ");
+        xml.writeEndElement();
+
+        // Оглавление заполняется редактором при обновлении полей
+        xml.writeStartElement(TEXT_NS, "table-of-content");
+        xml.writeAttribute(TEXT_NS, "name", "TOC");
+        xml.writeEmptyElement(TEXT_NS, "table-of-content-source");
+        xml.writeAttribute(TEXT_NS, "outline-level", "3");
+        xml.writeEmptyElement(TEXT_NS, "index-body");
+        xml.writeEndElement();
+    }
+
+    private void writeKeyValueTable(XMLStreamWriter xml, Report.KeyValueTable table, String name) throws XMLStreamException {
+        xml.writeStartElement(TABLE_NS, "table");
+        xml.writeAttribute(TABLE_NS, "name", name);
+        xml.writeAttribute(TABLE_NS, "style-name", "KeyValue");
+        xml.writeEmptyElement(TABLE_NS, "table-column");
+        xml.writeAttribute(TABLE_NS, "number-columns-repeated", "2");
+
+        for (String[] row : table.getRows()) {
+            xml.writeStartElement(TABLE_NS, "table-row");
+
+            xml.writeStartElement(TABLE_NS, "table-cell");
+            xml.writeAttribute(OFFICE_NS, "value-type", "string");
+            xml.writeStartElement(TEXT_NS, "p");
+            writeBold(xml, row[0]);
+            xml.writeEndElement();
+            xml.writeEndElement();
+
+            xml.writeStartElement(TABLE_NS, "table-cell");
+            xml.writeAttribute(OFFICE_NS, "value-type", "string");
+            xml.writeStartElement(TEXT_NS, "p");
+            xml.writeCharacters(row.length > 1 ? row[1] : "");
+            xml.writeEndElement();
+            xml.writeEndElement();
+
+            xml.writeEndElement();
+        }
+        xml.writeEndElement();
+    }
+
+    private void writeBold(XMLStreamWriter xml, String text) throws XMLStreamException {
+        xml.writeStartElement(TEXT_NS, "span");
+        xml.writeAttribute(TEXT_NS, "style-name", "Bold");
+        xml.writeCharacters(text);
+        xml.writeEndElement();
+    }
+}
@@ -0,0 +1,454 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Распаковка многочленного gzip-файла (несколько склеенных gzip-потоков) на нескольких ядрах.
+ * <p>
+ * Заголовки членов ищутся по мере распаковки, и каждый член распаковывается в отдельной
+ * задаче порциями по {@code CHUNK_SIZE} байт через ограниченную очередь. Данные отдаются
+ * строго по порядку; вперед распаковывается не больше {@code 2 * threads} членов, так что
+ * в памяти одновременно не больше {@code 2 * threads * (QUEUE_CHUNKS + 1)} порций независимо
+ * от размера членов. Файл читается позиционным {@link FileChannel#read(ByteBuffer, long)}
+ * без отображения в память, поэтому после {@link #close()} его можно сразу перезаписать
+ * или удалить (на Windows отображение держит файл до сборки мусора).
+ * <p>
+ * Если второй заголовок не найден в первых {@code MAX_MEMBER_SCAN} байтах, файл считается
+ * одночленным (обычный вывод gzip и pigz) и читается последовательно. Сигнатура заголовка
+ * может случайно встретиться внутри сжатых данных: задача предыдущего члена тогда просто
+ * читает дальше до настоящего конца deflate-потока, а ложный член отбрасывается. Остаток
+ * файла читается обычным {@link GZIPInputStream} только если член не прошел проверку
+ * CRC/длины или распаковка завершилась ошибкой, включая {@link Error}.
+ */
+public class ParallelGzipInputStream extends InputStream {
+
+    private static final int RESERVED_FLAGS = 0xE0;
+    private static final int FHCRC = 0x02;
+    private static final int FEXTRA = 0x04;
+    private static final int FNAME = 0x08;
+    private static final int FCOMMENT = 0x10;
+    private static final int HEADER_SIZE = 10;
+    private static final int TRAILER_SIZE = 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int CHUNK_SIZE = 256 * 1024;
+    private static final int QUEUE_CHUNKS = 4;
+    private static final long CANCEL_CHECK_MILLIS = 100;
+    static final int MAX_MEMBER_SCAN = 32 * 1024 * 1024;
+
+    // Маркеры конца члена в очереди, сравниваются по ссылке
+    private static final byte[] MEMBER_OK = new byte[0];
+    private static final byte[] MEMBER_INVALID = new byte[0];
+
+    private final FileChannel channel;
+    private final long size;
+    private final ExecutorService executor;
+    private final Deque<Member> inFlight = new ArrayDeque<>();
+    private final int window;
+
+    // Начало следующего члена, который еще не отдан на распаковку; -1 — члены кончились
+    private long nextStart;
+    // Смещение, с которого остаток файла читается последовательно; -1 — не задано
+    private long sequentialFrom = -1;
+
+    private Member currentMember;
+    private long currentMemberRead;
+    private byte[] chunk = new byte[0];
+    private int chunkPos;
+    private InputStream sequentialStream;
+
+    public ParallelGzipInputStream(Path path, int threads) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.size = channel.size();
+            if (!isMemberHeader(0) || findNextHeader(0) < 0) {
+                // Одночленный или нестандартный файл — параллелить нечего
+                this.executor = null;
+                this.window = 0;
+                switchToSequential(0, 0);
+            } else {
+                this.executor = Executors.newFixedThreadPool(threads, r -> {
+                    Thread thread = new Thread(r, "gzip-inflate");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                this.window = threads * 2;
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (sequentialStream == null) {
+            if (chunkPos < chunk.length) {
+                int n = Math.min(len, chunk.length - chunkPos);
+                System.arraycopy(chunk, chunkPos, b, off, n);
+                chunkPos += n;
+                currentMemberRead += n;
+                return n;
+            }
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+        return sequentialStream.read(b, off, len);
+    }
+
+    /**
+     * Перешел ли поток на последовательное чтение.
+     */
+    boolean isSequential() {
+        return sequentialStream != null;
+    }
+
+    /**
+     * @return {@code false}, если данные кончились
+     */
+    private boolean nextChunk() throws IOException {
+        fillWindow();
+
+        if (currentMember == null) {
+            currentMember = inFlight.poll();
+            currentMemberRead = 0;
+            if (currentMember == null) {
+                if (sequentialFrom >= 0) {
+                    switchToSequential(sequentialFrom, 0);
+                    return true;
+                }
+                return false;
+            }
+        }
+
+        byte[] next;
+        try {
+            next = currentMember.queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Распаковка gzip прервана", e);
+        }
+
+        if (next == MEMBER_OK) {
+            long end = currentMember.end;
+            currentMember = null;
+            skipTo(end);
+        } else if (next == MEMBER_INVALID) {
+            // Поврежденный член или ошибка в задаче — дальше читаем последовательно,
+            // пропуская уже отданную часть текущего члена
+            cancelInFlight();
+            switchToSequential(currentMember.start, currentMemberRead);
+        } else {
+            chunk = next;
+            chunkPos = 0;
+        }
+        return true;
+    }
+
+    /**
+     * Сверяет настоящий конец члена с началом следующего запланированного. Члены, начало
+     * которых оказалось внутри уже распакованного, найдены по ложной сигнатуре и отбрасываются.
+     */
+    private void skipTo(long end) throws IOException {
+        while (!inFlight.isEmpty() && inFlight.peek().start < end) {
+            inFlight.poll().cancelled = true;
+        }
+
+        long expected;
+        if (!inFlight.isEmpty()) {
+            expected = inFlight.peek().start;
+        } else if (sequentialFrom >= 0) {
+            expected = sequentialFrom;
+        } else {
+            expected = nextStart >= 0 ? nextStart : size;
+        }
+        if (expected != end) {
+            // Член закончился не на запланированной границе — планируем заново от его конца.
+            // Мусор после последнего члена, как и в GZIPInputStream, игнорируется.
+            for (Member member : inFlight) {
+                member.cancelled = true;
+            }
+            inFlight.clear();
+            sequentialFrom = -1;
+            nextStart = end < size && isMemberHeader(end) ? end : -1;
+        }
+    }
+
+    private void fillWindow() throws IOException {
+        while (nextStart >= 0 && sequentialFrom < 0 && inFlight.size() < window) {
+            long start = nextStart;
+            long next = findNextHeader(start);
+            if (next < 0) {
+                if (size - start > MAX_MEMBER_SCAN) {
+                    // Следующий заголовок далеко или его нет — остаток читаем последовательно
+                    sequentialFrom = start;
+                    nextStart = -1;
+                    return;
+                }
+                nextStart = -1;
+            } else {
+                nextStart = next;
+            }
+
+            Member member = new Member(start);
+            inFlight.add(member);
+            executor.execute(() -> inflateMember(member));
+        }
+    }
+
+    private void switchToSequential(long offset, long skip) throws IOException {
+        channel.position(offset);
+        sequentialStream = new GZIPInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+        sequentialStream.skipNBytes(skip);
+    }
+
+    // Задачи не прерываются через interrupt: прерывание потока во время чтения закрыло бы
+    // общий FileChannel. Вместо этого задачи проверяют флаг отмены.
+    private void cancelInFlight() {
+        if (currentMember != null) {
+            currentMember.cancelled = true;
+        }
+        for (Member member : inFlight) {
+            member.cancelled = true;
+        }
+        inFlight.clear();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Распаковывает член в очередь порциями и завершает ее маркером {@link #MEMBER_OK}
+     * или {@link #MEMBER_INVALID}, если член не прошел проверку.
+     */
+    private void inflateMember(Member member) {
+        if (member.cancelled) {
+            return;
+        }
+
+        boolean valid;
+        Inflater inflater = new Inflater(true);
+        try {
+            valid = inflateMember(member, inflater);
+        } catch (IOException | DataFormatException | RuntimeException | Error e) {
+            valid = false;
+        } finally {
+            inflater.end();
+        }
+
+        if (!member.cancelled) {
+            put(member, valid ? MEMBER_OK : MEMBER_INVALID);
+        }
+    }
+
+    private boolean inflateMember(Member member, Inflater inflater) throws IOException, DataFormatException {
+        byte[] input = new byte[BUFFER_SIZE];
+        int headerLength = read(member.start, input, input.length);
+        int dataOffset = skipHeader(input, headerLength);
+        if (dataOffset < 0) {
+            return false;
+        }
+        long dataStart = member.start + dataOffset;
+        long inputPos = member.start + headerLength;
+        inflater.setInput(input, dataOffset, headerLength - dataOffset);
+
+        // Конец члена определяет сам deflate-поток, а не найденная следующая сигнатура:
+        // если она была ложной, чтение просто продолжается за ней
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[CHUNK_SIZE];
+        int filled = 0;
+        while (!inflater.finished()) {
+            if (member.cancelled) {
+                return false;
+            }
+            if (inflater.needsInput()) {
+                int n = read(inputPos, input, input.length);
+                if (n == 0) {
+                    // Файл кончился раньше deflate-потока
+                    return false;
+                }
+                inputPos += n;
+                inflater.setInput(input, 0, n);
+            }
+            int n = inflater.inflate(buffer, filled, buffer.length - filled);
+            if (n == 0 && inflater.needsDictionary()) {
+                return false;
+            }
+            crc.update(buffer, filled, n);
+            filled += n;
+            if (filled == buffer.length) {
+                put(member, buffer);
+                buffer = new byte[CHUNK_SIZE];
+                filled = 0;
+            }
+        }
+        if (filled > 0) {
+            put(member, Arrays.copyOf(buffer, filled));
+        }
+
+        long trailerStart = dataStart + inflater.getBytesRead();
+        byte[] trailer = new byte[TRAILER_SIZE];
+        if (read(trailerStart, trailer, TRAILER_SIZE) < TRAILER_SIZE) {
+            return false;
+        }
+        ByteBuffer trailerBuffer = ByteBuffer.wrap(trailer).order(ByteOrder.LITTLE_ENDIAN);
+        long expectedCrc = trailerBuffer.getInt(0) & 0xFFFFFFFFL;
+        long expectedSize = trailerBuffer.getInt(4) & 0xFFFFFFFFL;
+        member.end = trailerStart + TRAILER_SIZE;
+        return crc.getValue() == expectedCrc && (inflater.getBytesWritten() & 0xFFFFFFFFL) == expectedSize;
+    }
+
+    private static void put(Member member, byte[] chunk) {
+        try {
+            while (!member.cancelled) {
+                if (member.queue.offer(chunk, CANCEL_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Читает до {@code length} байт с позиции {@code position}; меньше — только в конце файла.
+     */
+    private int read(long position, byte[] dst, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(dst, 0, length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.position();
+    }
+
+    /**
+     * Ищет следующую сигнатуру заголовка после члена, начинающегося в {@code start},
+     * но не дальше {@link #MAX_MEMBER_SCAN} байт.
+     *
+     * @return смещение заголовка или -1
+     */
+    private long findNextHeader(long start) throws IOException {
+        long limit = Math.min(size, start + MAX_MEMBER_SCAN);
+        byte[] block = new byte[BUFFER_SIZE];
+        for (long pos = start + HEADER_SIZE; pos + 3 < limit; pos += block.length - 3) {
+            // Блоки перекрываются на 3 байта, чтобы не пропустить сигнатуру на границе
+            int length = read(pos, block, (int) Math.min(block.length, limit - pos));
+            for (int i = 0; i + 3 < length; i++) {
+                if (isSignature(block, i)) {
+                    return pos + i;
+                }
+            }
+            if (length < block.length) {
+                break;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isMemberHeader(long offset) throws IOException {
+        byte[] header = new byte[4];
+        return size - offset >= HEADER_SIZE
+                && read(offset, header, header.length) == header.length
+                && isSignature(header, 0);
+    }
+
+    private static boolean isSignature(byte[] bytes, int i) {
+        return (bytes[i] & 0xFF) == 0x1F
+                && (bytes[i + 1] & 0xFF) == 0x8B
+                && bytes[i + 2] == 8
+                && (bytes[i + 3] & RESERVED_FLAGS) == 0;
+    }
+
+    /**
+     * @return смещение начала сжатых данных от начала заголовка или -1, если заголовок
+     * некорректен или не поместился в прочитанные {@code length} байт
+     */
+    private static int skipHeader(byte[] header, int length) {
+        int pos = HEADER_SIZE;
+        if (pos > length) {
+            return -1;
+        }
+        int flags = header[3] & 0xFF;
+        if ((flags & FEXTRA) != 0) {
+            if (pos + 2 > length) {
+                return -1;
+            }
+            int extraLength = (header[pos] & 0xFF) | (header[pos + 1] & 0xFF) << 8;
+            pos += 2 + extraLength;
+        }
+        if ((flags & FNAME) != 0) {
+            pos = skipZeroTerminated(header, pos, length);
+        }
+        if ((flags & FCOMMENT) != 0 && pos >= 0) {
+            pos = skipZeroTerminated(header, pos, length);
+        }
+        if ((flags & FHCRC) != 0 && pos >= 0) {
+            pos += 2;
+        }
+        return pos >= 0 && pos <= length ? pos : -1;
+    }
+
+    private static int skipZeroTerminated(byte[] header, int pos, int length) {
+        while (pos < length) {
+            if (header[pos++] == 0) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        cancelInFlight();
+        try {
+            if (sequentialStream != null) {
+                sequentialStream.close();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static class Member {
+        private final long start;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_CHUNKS);
+        // Настоящий конец члена, известен после успешной распаковки
+        private long end;
+        private volatile boolean cancelled;
+
+        Member(long start) {
+            this.start = start;
+        }
+    }
+}
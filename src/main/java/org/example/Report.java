@@ -0,0 +1,129 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Модель отчета, не зависящая от формата вывода.
+ * <p>
+ * Отчет состоит из разделов, раздел — из последовательности блоков: нумерованных
+ * заголовков, таблиц "параметр — значение" и абзацев с подписью. Модель заполняется
+ * один раз и затем только читается, поэтому ее можно одновременно отдавать
+ * нескольким {@link ReportWriter}.
+ */
+public class Report {
+
+    private final String title;
+    private final List<Section> sections = new ArrayList<>();
+
+    public Report(String title) {
+        this.title = title;
+    }
+
+    public Section addSection(String sectionTitle) {
+        Section section = new Section(sectionTitle);
+        sections.add(section);
+        return section;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    public static class Section {
+        private final String title;
+        private final List<Block> blocks = new ArrayList<>();
+
+        private Section(String title) {
+            this.title = title;
+        }
+
+        public Section addHeading(String number, String text) {
+            blocks.add(new Heading(number, text));
+            return this;
+        }
+
+        public Section addKeyValueTable(List<String[]> rows) {
+            blocks.add(new KeyValueTable(rows));
+            return this;
+        }
+
+        public Section addParagraph(String label, List<String> lines) {
+            blocks.add(new FormattedParagraph(label, lines));
+            return this;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public List<Block> getBlocks() {
+            return Collections.unmodifiableList(blocks);
+        }
+    }
+
+    public interface Block {
+    }
+
+    /**
+     * Нумерованный заголовок внутри раздела, например "1.2 Потеря сигнала".
+     */
+    public static class Heading implements Block {
+        private final String number;
+        private final String text;
+
+        private Heading(String number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+
+        public String getNumber() {
+            return number;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
+    /**
+     * Таблица из двух колонок: подпись и значение.
+     */
+    public static class KeyValueTable implements Block {
+        private final List<String[]> rows;
+
+        private KeyValueTable(List<String[]> rows) {
+            this.rows = List.copyOf(rows);
+        }
+
+        public List<String[]> getRows() {
+            return rows;
+        }
+    }
+
+    /**
+     * Абзац с выделенной подписью и текстом, разбитым на строки.
+     */
+    public static class FormattedParagraph implements Block {
+        private final String label;
+        private final List<String> lines;
+
+        private FormattedParagraph(String label, List<String> lines) {
+            this.label = label;
+            this.lines = List.copyOf(lines);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public List<String> getLines() {
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Вывод {@link Report} в конкретный формат.
+ * Реализации не хранят состояние между вызовами и могут работать параллельно.
+ */
+public interface ReportWriter {
+
+    /**
+     * Расширение выходного файла без точки, например "docx".
+     */
+    String getExtension();
+
+    /**
+     * Записывает отчет в поток. Поток не закрывается.
+     */
+    void write(Report report, OutputStream out) throws IOException;
+}
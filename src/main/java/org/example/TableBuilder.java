@@ -0,0 +1,205 @@
+package org.example;
+
+import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.xmlbeans.impl.xb.xmlschema.SpaceAttribute;
+import org.openxmlformats.schemas.officeDocument.x2006.sharedTypes.STOnOff1;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Построение таблицы DOCX по схеме колонок и пачке строк.
+ * <p>
+ * Таблица собирается сразу на уровне XML ({@link CTTbl}): для каждой колонки один раз
+ * готовится шаблон ячейки с оформлением, а строка — это копии шаблонов с подставленным
+ * текстом. Ширина и границы задаются только свойствами таблицы, поэтому стоимость
+ * строки не зависит ни от размера таблицы, ни от числа таблиц в документе.
+ */
+public class TableBuilder {
+
+    private static class Column {
+        private final String header;
+        private final boolean bold;
+        private final ParagraphAlignment alignment;
+
+        Column(String header, boolean bold, ParagraphAlignment alignment) {
+            this.header = header;
+            this.bold = bold;
+            this.alignment = alignment;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public boolean isBold() {
+            return bold;
+        }
+
+        public ParagraphAlignment getAlignment() {
+            return alignment;
+        }
+    }
+
+    private final List<Column> columns = new ArrayList<>();
+    private boolean headerRow = true;
+    private boolean borders = true;
+    private int widthPercent;
+    private String fontFamily;
+    private int fontSize;
+
+    public TableBuilder addColumn(String header) {
+        return addColumn(header, false, null);
+    }
+
+    public TableBuilder addColumn(String header, boolean bold) {
+        return addColumn(header, bold, null);
+    }
+
+    public TableBuilder addColumn(String header, boolean bold, ParagraphAlignment alignment) {
+        columns.add(new Column(header, bold, alignment));
+        return this;
+    }
+
+    public TableBuilder withoutHeaderRow() {
+        this.headerRow = false;
+        return this;
+    }
+
+    public TableBuilder withoutBorders() {
+        this.borders = false;
+        return this;
+    }
+
+    public TableBuilder width(int percent) {
+        this.widthPercent = percent;
+        return this;
+    }
+
+    public TableBuilder font(String family, int size) {
+        this.fontFamily = family;
+        this.fontSize = size;
+        return this;
+    }
+
+    /**
+     * Добавляет таблицу в конец документа. Лишние значения в строке отбрасываются,
+     * недостающие и {@code null} выводятся пустыми ячейками.
+     * <p>
+     * Таблица пишется прямо в XML тела документа, без оберток {@link XWPFTable}: обертка,
+     * созданная до строк, не видит их, а вставка готовой через {@code insertTable()} стоит
+     * O(число таблиц). Поэтому в {@link XWPFDocument#getTables()} таблица появляется только
+     * после повторного открытия документа; в файл она попадает как обычно.
+     *
+     * @return XML добавленной таблицы или {@code null}, если без строки заголовков выводить
+     * нечего — таблица без строк в DOCX недопустима, и в документ ничего не добавляется
+     */
+    public CTTbl build(XWPFDocument document, Iterable<String[]> rows) {
+        if (columns.isEmpty()) {
+            throw new IllegalStateException("Не задано ни одной колонки таблицы");
+        }
+        Iterator<String[]> iterator = rows.iterator();
+        if (!headerRow && !iterator.hasNext()) {
+            return null;
+        }
+
+        CTTbl ctTbl = document.getDocument().getBody().addNewTbl();
+        addTableProperties(ctTbl);
+
+        if (headerRow) {
+            CTRow tr = ctTbl.addNewTr();
+            tr.addNewTrPr().addNewTblHeader().setVal(STOnOff1.ON);
+            for (Column column : columns) {
+                CTTc tc = tr.addNewTc();
+                tc.set(createCellTemplate(true, ParagraphAlignment.CENTER));
+                setCellText(tc, column.getHeader());
+            }
+        }
+
+        CTTc[] templates = new CTTc[columns.size()];
+        for (int i = 0; i < templates.length; i++) {
+            Column column = columns.get(i);
+            templates[i] = createCellTemplate(column.isBold(), column.getAlignment());
+        }
+
+        while (iterator.hasNext()) {
+            String[] row = iterator.next();
+            CTRow tr = ctTbl.addNewTr();
+            for (int i = 0; i < templates.length; i++) {
+                CTTc tc = tr.addNewTc();
+                tc.set(templates[i]);
+                setCellText(tc, i < row.length ? row[i] : null);
+            }
+        }
+        return ctTbl;
+    }
+
+    private void addTableProperties(CTTbl ctTbl) {
+        CTTblPr tblPr = ctTbl.addNewTblPr();
+
+        CTTblWidth tblW = tblPr.addNewTblW();
+        if (widthPercent > 0) {
+            // Ширина в пятидесятых долях процента
+            tblW.setType(STTblWidth.PCT);
+            tblW.setW(BigInteger.valueOf(widthPercent * 50L));
+        } else {
+            tblW.setType(STTblWidth.AUTO);
+            tblW.setW(BigInteger.ZERO);
+        }
+
+        STBorder.Enum border = borders ? STBorder.SINGLE : STBorder.NONE;
+        CTTblBorders tblBorders = tblPr.addNewTblBorders();
+        tblBorders.addNewTop().setVal(border);
+        tblBorders.addNewBottom().setVal(border);
+        tblBorders.addNewLeft().setVal(border);
+        tblBorders.addNewRight().setVal(border);
+        tblBorders.addNewInsideH().setVal(border);
+        tblBorders.addNewInsideV().setVal(border);
+
+        CTTblGrid grid = ctTbl.addNewTblGrid();
+        for (int i = 0; i < columns.size(); i++) {
+            grid.addNewGridCol();
+        }
+    }
+
+    private CTTc createCellTemplate(boolean bold, ParagraphAlignment alignment) {
+        CTTc tc = CTTc.Factory.newInstance();
+        CTP p = tc.addNewP();
+        if (alignment != null) {
+            p.addNewPPr().addNewJc().setVal(STJc.Enum.forInt(alignment.getValue()));
+        }
+
+        CTR r = p.addNewR();
+        if (bold || fontFamily != null || fontSize > 0) {
+            CTRPr rPr = r.addNewRPr();
+            if (fontFamily != null) {
+                CTFonts fonts = rPr.addNewRFonts();
+                fonts.setAscii(fontFamily);
+                fonts.setHAnsi(fontFamily);
+                fonts.setCs(fontFamily);
+                fonts.setEastAsia(fontFamily);
+            }
+            if (bold) {
+                rPr.addNewB();
+            }
+            if (fontSize > 0) {
+                // Размер шрифта в половинах пункта
+                BigInteger halfPoints = BigInteger.valueOf(fontSize * 2L);
+                rPr.addNewSz().setVal(halfPoints);
+                rPr.addNewSzCs().setVal(halfPoints);
+            }
+        }
+
+        r.addNewT().setSpace(SpaceAttribute.Space.PRESERVE);
+        return tc;
+    }
+
+    private static void setCellText(CTTc tc, String text) {
+        tc.getPArray(0).getRArray(0).getTArray(0).setStringValue(text == null ? "" : text);
+    }
+}
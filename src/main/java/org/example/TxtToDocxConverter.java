@@ -2,14 +2,23 @@ package org.example;
 
 import org.apache.poi.openxml4j.opc.OPCPackage;
 import org.apache.poi.xwpf.usermodel.*;
-import org.apache.poi.xwpf.model.XWPFHeaderFooterPolicy;
-import org.apache.xmlbeans.XmlException;
-import org.openxmlformats.schemas.officeDocument.x2006.sharedTypes.STOnOff1;
-import org.openxmlformats.schemas.wordprocessingml.x2006.main.*;
 
 import java.io.*;
-import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class TxtToDocxConverter {
 
@@ -56,33 +65,54 @@ public class TxtToDocxConverter {
 
     public static void main(String[] args) {
         String sqlFilePath = "D:/Alarm/alarm_data.sql"; // Путь к файлу SQL
-        String docxFilePath = "D:/Alarm/alarmD.docx"; // Путь к выходному DOCX файлу
+        String outputBasePath = "D:/Alarm/alarmD"; // Путь к выходным файлам без расширения (.docx, .odt, .html, .md)
         String templateFilePath = "D:/Alarm/nms1.docx"; // Путь к шаблону DOCX файлу
 
         try {
-            List<Accident> accidents = parseSqlFile(sqlFilePath);
+            // Если передан JDBC URL, аварии читаются прямо из базы, без дампа
+            List<Accident> accidents = args.length > 0 && args[0].startsWith("jdbc:")
+                    ? readAccidents(args[0])
+                    : parseSqlFile(sqlFilePath);
             if (accidents.isEmpty()) {
                 System.out.println("Нет данных для записи в DOCX файл.");
                 return;
             }
-            writeDocxFile(accidents, docxFilePath, templateFilePath);
-            System.out.println("SQL файл успешно преобразован в DOCX файл.");
+
+            // Модель отчета строится один раз и записывается во все форматы параллельно
+            writeReports(buildReport(accidents), outputBasePath, createReportWriters(templateFilePath));
+            System.out.println("SQL файл успешно преобразован в DOCX, ODT, HTML и Markdown.");
 
             // Извлечение заголовков из созданного файла
-            extractHeadings(docxFilePath);
+            extractHeadings(outputBasePath + ".docx");
 
         } catch (IOException e) {
             System.err.println("Произошла ошибка при преобразовании файла: " + e.getMessage());
+        } catch (SQLException e) {
+            System.err.println("Произошла ошибка при чтении аварий из базы: " + e.getMessage());
+        }
+    }
+
+    public static List<Accident> readAccidents(String jdbcUrl) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(jdbcUrl)) {
+            return new AccidentJdbcSource(connection).readAccidents();
         }
     }
 
     public static List<Accident> parseSqlFile(String sqlFilePath) throws IOException {
+        return parseSqlFile(sqlFilePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Разбирает дамп аварий. Файл может быть сжат gzip или zstd — формат
+     * определяется по сигнатуре, распаковка идет потоком ({@link CompressedInput}).
+     */
+    public static List<Accident> parseSqlFile(String sqlFilePath, Charset charset) throws IOException {
         List<Accident> accidents = new ArrayList<>();
         Map<String, String> eventCategoryMap = new HashMap<>();
         boolean readingAccidents = false;
         boolean readingCategories = false;
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(sqlFilePath)))) {
+        try (BufferedReader reader = CompressedInput.openReader(Paths.get(sqlFilePath), charset)) {
             String line;
             while ((line = reader.readLine()) != null) {
                 if (line.startsWith("alarmdataentity")) {
@@ -114,22 +144,18 @@ public class TxtToDocxConverter {
                         continue;
                     }
 
-                    String hierarchy = parts[9].replace("\\N", "-");
-                    if (!HIERARCHY_MAP.containsKey(hierarchy)) {
-                        System.out.println("Пропуск строки с неверным hierarchy: " + hierarchy);
-                        continue;
+                    Accident accident = toAccident(
+                            parts[9].replace("\\N", "-"),
+                            parts[1].replace("\\N", "-"),
+                            parts[7].replace("\\N", "-"),
+                            parts[6].replace("\\N", "-"),
+                            parts[4].replace("\\N", "-").replace("\\n", "\n"),
+                            parts[5].replace("\\N", "-").replace("\\n", "\n"),
+                            parts[2].replace("\\N", "-"),
+                            eventCategoryMap);
+                    if (accident != null) {
+                        accidents.add(accident);
                     }
-
-                    String severity = SEVERITY_MAP.getOrDefault(parts[1].replace("\\N", "-"), parts[1].replace("\\N", "-"));
-                    String categoryId = parts[7].replace("\\N", "-").replaceAll("[\\[\\]\"]", "");
-                    String category = eventCategoryMap.getOrDefault(categoryId, parts[7].replace("\\N", "-"));
-                    String translatedCategory = translateCategory(category);
-                    String eventType = EVENT_TYPE_MAP.getOrDefault(parts[6].replace("\\N", "-"), parts[6].replace("\\N", "-"));
-                    String description = parts[4].replace("\\N", "-").replace("\\n", "\n");
-                    String operatorAction = parts[5].replace("\\N", "-").replace("\\n", "\n");
-                    String nameRus = parts[2].replace("\\N", "-");
-
-                    accidents.add(new Accident(hierarchy, severity, translatedCategory, eventType, description, operatorAction, nameRus));
                 }
             }
         }
@@ -137,6 +163,29 @@ public class TxtToDocxConverter {
         return accidents;
     }
 
+    /**
+     * Переводит поля одной записи alarmdataentity в {@link Accident}.
+     * Используется и при разборе дампа, и при чтении из базы ({@link AccidentJdbcSource}),
+     * поэтому значения должны быть уже раскодированы (NULL заменен на "-").
+     *
+     * @return авария или {@code null}, если hierarchy не относится к известным разделам
+     */
+    static Accident toAccident(String hierarchy, String severityCode, String categoryField, String eventTypeCode,
+                               String description, String operatorAction, String nameRus,
+                               Map<String, String> eventCategoryMap) {
+        if (!HIERARCHY_MAP.containsKey(hierarchy)) {
+            System.out.println("Пропуск строки с неверным hierarchy: " + hierarchy);
+            return null;
+        }
+
+        String severity = SEVERITY_MAP.getOrDefault(severityCode, severityCode);
+        String categoryId = categoryField.replaceAll("[\\[\\]\"]", "");
+        String category = eventCategoryMap.getOrDefault(categoryId, categoryField);
+        String translatedCategory = translateCategory(category);
+        String eventType = EVENT_TYPE_MAP.getOrDefault(eventTypeCode, eventTypeCode);
+
+        return new Accident(hierarchy, severity, translatedCategory, eventType, description, operatorAction, nameRus);
+    }
 
     private static String translateCategory(String category) {
         category = category.replace("[", "").replace("]", "").replace("\"", "");
@@ -149,6 +198,17 @@ public class TxtToDocxConverter {
     }
 
     public static void writeDocxFile(List<Accident> accidents, String docxFilePath, String templateFilePath) throws IOException {
+        Report report = buildReport(accidents);
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(docxFilePath))) {
+            new DocxReportWriter(templateFilePath).write(report, out);
+        }
+    }
+
+    /**
+     * Заполняет модель отчета: аварии сортируются, группируются по разделам и нумеруются.
+     * Модель одна для всех форматов вывода.
+     */
+    public static Report buildReport(List<Accident> accidents) {
         accidents.sort(Comparator.comparing(Accident::getHierarchy).thenComparing(Accident::getDescription));
 
         Map<String, List<Accident>> groupedAccidents = new LinkedHashMap<>();
@@ -157,296 +217,104 @@ public class TxtToDocxConverter {
             groupedAccidents.computeIfAbsent(section, k -> new ArrayList<>()).add(accident);
         }
 
-        XWPFDocument template;
-        try (FileInputStream fis = new FileInputStream(templateFilePath)) {
-            template = new XWPFDocument(fis);
-        }
-
-        try (XWPFDocument document = new XWPFDocument();
-             FileOutputStream out = new FileOutputStream(docxFilePath)) {
-
-            // Копируем стили из шаблона
-            XWPFStyles newStyles = document.createStyles();
-            newStyles.setStyles(template.getStyle());
-
-            // Добавляем настраиваемые стили заголовков
-            addCustomHeadingStyle(document, "Heading1", 1);
-            addCustomHeadingStyle(document, "Heading2", 2);
-
-            // Создаем содержание с авариями
-            createTableOfContents(document);
-
-            // Добавляем аварии
-            addAccidents(document, groupedAccidents);
-
-            // Добавляем номера страниц в верхний колонтитул
-            addPageNumbers(document);
-
-            document.write(out);
-        } catch (XmlException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static void createTableOfContents(XWPFDocument document) {
-        // Заголовок "СОДЕРЖАНИЕ"
-        XWPFParagraph tocTitleParagraph = document.createParagraph();
-        tocTitleParagraph.setAlignment(ParagraphAlignment.CENTER);
-        XWPFRun tocTitleRun = tocTitleParagraph.createRun();
-        tocTitleRun.setText("СОДЕРЖАНИЕ");
-        tocTitleRun.setFontSize(16);
-        tocTitleRun.setFontFamily("Times New Roman");
-        tocTitleRun.setBold(false);
-
-        // Создаем TOC
-        CTSdtBlock sdtBlock = document.getDocument().getBody().addNewSdt();
-        CTSdtPr sdtPr = sdtBlock.addNewSdtPr();
-        CTString docPart = sdtPr.addNewDocPartObj().addNewDocPartGallery();
-        docPart.setVal("Table of Contents");
-        sdtPr.addNewDocPartObj().addNewDocPartUnique().setVal(STOnOff1.ON);
-
-        CTSdtContentBlock sdtContentBlock = sdtBlock.addNewSdtContent();
-        XWPFParagraph paragraph = document.createParagraph();
-        CTP ctp = paragraph.getCTP();
-        sdtContentBlock.set(ctp);
-        CTSimpleField tocField = ctp.addNewFldSimple();
-        tocField.setInstr("TOC \\o \"1-3\" \\h \\z \\u");
-
-        // Создаем параграф для содержания
-        XWPFRun run = paragraph.createRun();
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12); // Обычный текст, 12pt
-        run.setBold(false); // Убираем жирный шрифт для содержания
-
-        // Вставка пустого пробела для обновления TOC
-        run.setText(" ");
-
-        // Настраиваем стили TOC
-        addTOCStyles(document);
-    }
-
-    private static void addTOCStyles(XWPFDocument document) {
-        addCustomHeadingStyle(document, "TOCHeading", 1);
-        addCustomHeadingStyle(document, "TOC1", 2);
-        addCustomHeadingStyle(document, "TOC2", 3);
-        addCustomHeadingStyle(document, "TOC3", 4);
-    }
-
-
-
-
-
-
-    private static void addAccidents(XWPFDocument document, Map<String, List<Accident>> groupedAccidents) {
+        Report report = new Report("АВАРИИ");
         int sectionNumber = 1;
         for (Map.Entry<String, List<Accident>> entry : groupedAccidents.entrySet()) {
-            String section = entry.getKey();
-            List<Accident> sectionAccidents = entry.getValue();
-
-            // Добавляем заголовок раздела с номером
-            XWPFParagraph sectionParagraph = document.createParagraph();
-            sectionParagraph.setStyle("Heading1");
-            sectionParagraph.setPageBreak(true); // Начать с новой страницы
-            sectionParagraph.setAlignment(ParagraphAlignment.CENTER); // Выравнивание по центру
-            XWPFRun sectionRun = sectionParagraph.createRun();
-            sectionRun.setBold(true);
-            sectionRun.setFontSize(16);
-            sectionRun.setText("АВАРИИ: " + section.toUpperCase());
-            sectionRun.setFontFamily("Times New Roman");
-            sectionRun.addBreak();
+            Report.Section section = report.addSection("АВАРИИ: " + entry.getKey().toUpperCase());
 
             int accidentNumber = 1;
-            for (Accident accident : sectionAccidents) {
-                // Добавляем заголовок аварии с номером
-                XWPFParagraph nameParagraph = document.createParagraph();
-                nameParagraph.setStyle("Heading2");
-                nameParagraph.setFirstLineIndent(600); // Отступ 1,5 см
-
-                CTPPr ppr = nameParagraph.getCTP().getPPr();
-                if (ppr == null) ppr = nameParagraph.getCTP().addNewPPr();
-
-                CTOnOff keepNext = ppr.isSetKeepNext() ? ppr.getKeepNext() : ppr.addNewKeepNext();
-                keepNext.setVal(STOnOff1.ON);
-
-                CTOnOff keepLines = ppr.isSetKeepLines() ? ppr.getKeepLines() : ppr.addNewKeepLines();
-                keepLines.setVal(STOnOff1.ON);
-
-                XWPFRun nameRun = nameParagraph.createRun();
-                nameRun.setBold(true);
-                nameRun.setFontSize(14);
-                nameRun.setFontFamily("Times New Roman");
-                nameRun.setText(sectionNumber + "." + accidentNumber + " " + accident.getNameRus());
-                nameRun.addBreak();
-
-                // Создаем таблицу для деталей аварии
-                XWPFTable table = document.createTable();
-                table.setWidth("100%");
-                setNoBorder(table);
-
-                addTableRow(table, "Серьезность аварии:", accident.getSeverity());
-                addTableRow(table, "Категория события:", accident.getCategory());
-                addTableRow(table, "Тип события:", accident.getEventType());
-
-                // Описание аварии
-                XWPFParagraph descriptionParagraph = document.createParagraph();
-                descriptionParagraph.setFirstLineIndent(600); // Отступ 1,5 см
-                createFormattedParagraph(descriptionParagraph, "Описание аварии: ", accident.getDescription(), true);
-
-                // Действия оператора
-                XWPFParagraph operatorActionParagraph = document.createParagraph();
-                operatorActionParagraph.setFirstLineIndent(600); // Отступ 1,5 см
-                createFormattedParagraph(operatorActionParagraph, "Действия оператора: ", accident.getOperatorAction(), true);
-
+            for (Accident accident : entry.getValue()) {
+                section.addHeading(sectionNumber + "." + accidentNumber, accident.getNameRus());
+                section.addKeyValueTable(List.of(
+                        new String[]{"Серьезность аварии:", accident.getSeverity()},
+                        new String[]{"Категория события:", accident.getCategory()},
+                        new String[]{"Тип события:", accident.getEventType()}));
+                section.addParagraph("Описание аварии: ", splitLines(accident.getDescription()));
+                section.addParagraph("Действия оператора: ", splitLines(accident.getOperatorAction()));
                 accidentNumber++;
             }
             sectionNumber++;
         }
+        return report;
     }
 
-
-
-
-
-
-
-
-
-    private static void addTableRow(XWPFTable table, String label, String text) {
-        XWPFTableRow row = table.createRow();
-        XWPFTableCell cell0 = row.getCell(0);
-        XWPFTableCell cell1 = row.getCell(1);
-
-        // Ensure cells are not null and remove default empty paragraph
-        if (cell0 == null) {
-            cell0 = row.addNewTableCell();
-        } else {
-            cell0.removeParagraph(0); // Remove the default empty paragraph
-        }
-        if (cell1 == null) {
-            cell1 = row.addNewTableCell();
-        } else {
-            cell1.removeParagraph(0); // Remove the default empty paragraph
+    // Текст разбивается на строки после точек и перед пунктами списка " - "
+    private static List<String> splitLines(String text) {
+        List<String> lines = new ArrayList<>();
+        for (String line : text.split("(?<=\\.)\\s*|\\s+-\\s+")) {
+            lines.add(line.trim());
         }
-
-        setCellText(cell0, label, true);
-        setCellText(cell1, text, false);
-
-        setNoBorder(cell0);
-        setNoBorder(cell1);
+        return lines;
     }
 
-    private static void setCellText(XWPFTableCell cell, String text, boolean bold) {
-        // Remove existing paragraphs to avoid empty paragraphs
-        while (cell.getParagraphs().size() > 0) {
-            cell.removeParagraph(0);
-        }
-
-        XWPFParagraph paragraph = cell.addParagraph();
-        XWPFRun run = paragraph.createRun();
-        run.setText(text);
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12); // Устанавливаем шрифт 12pt
-        run.setBold(bold);
+    /**
+     * Все форматы, в которые выводится отчет.
+     */
+    public static List<ReportWriter> createReportWriters(String templateFilePath) {
+        return List.of(
+                new DocxReportWriter(templateFilePath),
+                new OdtReportWriter(),
+                new HtmlReportWriter(),
+                new MarkdownReportWriter());
     }
 
+    /**
+     * Записывает один отчет сразу в несколько файлов, каждый формат в своем потоке.
+     * Путь файла — {@code outputBasePath} плюс расширение формата. Каждый файл сначала
+     * пишется во временный рядом с итоговым и затем атомарно переименовывается, так что
+     * читатели никогда не видят недописанный отчет.
+     *
+     * @param outputBasePath путь к выходным файлам без расширения
+     */
+    public static void writeReports(Report report, String outputBasePath, List<ReportWriter> writers) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(writers.size(), Runtime.getRuntime().availableProcessors())));
+        try {
+            Map<Path, Future<?>> futures = new LinkedHashMap<>();
+            for (ReportWriter writer : writers) {
+                Path outputPath = Paths.get(outputBasePath + "." + writer.getExtension()).toAbsolutePath();
+                futures.put(outputPath, executor.submit(() -> {
+                    writeReportAtomically(report, writer, outputPath);
+                    return null;
+                }));
+            }
 
-
-    private static void setNoBorder(XWPFTableCell cell) {
-        CTTcPr tcPr = cell.getCTTc().addNewTcPr();
-        CTTcBorders borders = tcPr.addNewTcBorders();
-        borders.addNewTop().setVal(STBorder.NONE);
-        borders.addNewBottom().setVal(STBorder.NONE);
-        borders.addNewLeft().setVal(STBorder.NONE);
-        borders.addNewRight().setVal(STBorder.NONE);
-    }
-
-    private static void setNoBorder(XWPFTable table) {
-        CTTblPr tblPr = table.getCTTbl().getTblPr();
-        if (tblPr == null) tblPr = table.getCTTbl().addNewTblPr();
-        CTTblBorders borders = tblPr.addNewTblBorders();
-        borders.addNewTop().setVal(STBorder.NONE);
-        borders.addNewBottom().setVal(STBorder.NONE);
-        borders.addNewLeft().setVal(STBorder.NONE);
-        borders.addNewRight().setVal(STBorder.NONE);
-        borders.addNewInsideH().setVal(STBorder.NONE);
-        borders.addNewInsideV().setVal(STBorder.NONE);
-    }
-
-    private static void createFormattedParagraph(XWPFParagraph paragraph, String label, String text, boolean boldLabel) {
-        XWPFRun run = paragraph.createRun();
-        run.setBold(boldLabel);
-        run.setText(label);
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12);
-        run.addBreak();
-
-        String[] lines = text.split("(?<=\\.)\\s*|\\s+-\\s+");
-
-        for (String line : lines) {
-            if (line.startsWith("-")) {
-                // Если линия начинается с дефиса, форматируем как элемент списка
-                XWPFRun listRun = paragraph.createRun();
-                listRun.setText(line.trim());
-                listRun.setFontFamily("Times New Roman");
-                listRun.setFontSize(12);
-                listRun.addBreak();
-            } else {
-                // Иначе просто добавляем текст
-                XWPFRun textRun = paragraph.createRun();
-                textRun.setText(line.trim());
-                textRun.setFontFamily("Times New Roman");
-                textRun.setFontSize(12);
-                textRun.addBreak();
+            IOException failure = null;
+            for (Map.Entry<Path, Future<?>> future : futures.entrySet()) {
+                try {
+                    future.getValue().get();
+                } catch (ExecutionException e) {
+                    IOException error = new IOException("Не удалось записать " + future.getKey() + ": " + e.getCause().getMessage(), e.getCause());
+                    if (failure == null) {
+                        failure = error;
+                    } else {
+                        failure.addSuppressed(error);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Запись отчетов прервана", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
             }
+        } finally {
+            executor.shutdownNow();
         }
     }
 
-
-
-
-
-
-    private static void addPageNumbers(XWPFDocument document) {
-        CTSectPr sectPr = document.getDocument().getBody().addNewSectPr();
-        XWPFHeaderFooterPolicy headerFooterPolicy = new XWPFHeaderFooterPolicy(document, sectPr);
-
-        // Создаем верхний колонтитул
-        XWPFHeader header = headerFooterPolicy.createHeader(XWPFHeaderFooterPolicy.DEFAULT);
-        XWPFParagraph paragraph = header.getParagraphArray(0);
-        if (paragraph == null) {
-            paragraph = header.createParagraph();
+    private static void writeReportAtomically(Report report, ReportWriter writer, Path outputPath) throws IOException {
+        // Не Files.createTempFile: он создает файл с правами только для владельца,
+        // а HTML-отчет должен оставаться доступным веб-порталу
+        Path tempFile = outputPath.resolveSibling(outputPath.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+                writer.write(report, out);
+            }
+            Files.move(tempFile, outputPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
-
-        paragraph.setAlignment(ParagraphAlignment.CENTER);
-        XWPFRun run = paragraph.createRun();
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12);
-        run.setText("");
-        run.getCTR().addNewFldChar().setFldCharType(STFldCharType.BEGIN);
-        run = paragraph.createRun();
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12);
-        run.getCTR().addNewInstrText().setStringValue("PAGE \\* MERGEFORMAT");
-        run = paragraph.createRun();
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12);
-        run.getCTR().addNewFldChar().setFldCharType(STFldCharType.SEPARATE);
-        run = paragraph.createRun();
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12);
-        run.getCTR().addNewT().setStringValue("1");
-        run = paragraph.createRun();
-        run.setFontFamily("Times New Roman");
-        run.setFontSize(12);
-        run.getCTR().addNewFldChar().setFldCharType(STFldCharType.END);
-
-        // Добавляем текст "7.ТАИЦ.00018-01 34 02" в центр верхнего колонтитула
-        XWPFParagraph footerParagraph = header.createParagraph();
-        footerParagraph.setAlignment(ParagraphAlignment.CENTER);
-        XWPFRun footerRun = footerParagraph.createRun();
-        footerRun.setFontFamily("Times New Roman");
-        footerRun.setFontSize(12);
-        footerRun.setText("7.ТАИЦ.00018-01 34 02");
     }
 
     private static void extractHeadings(String docxFilePath) {
@@ -472,42 +340,6 @@ public class TxtToDocxConverter {
         }
     }
 
-    private static void addCustomHeadingStyle(XWPFDocument docxDocument, String strStyleId, int headingLevel) {
-
-        CTStyle ctStyle = CTStyle.Factory.newInstance();
-        ctStyle.setStyleId(strStyleId);
-
-        CTString styleName = CTString.Factory.newInstance();
-        styleName.setVal(strStyleId);
-        ctStyle.setName(styleName);
-
-        CTDecimalNumber indentNumber = CTDecimalNumber.Factory.newInstance();
-        indentNumber.setVal(BigInteger.valueOf(headingLevel));
-
-        // lower number > style is more prominent in the formats bar
-        ctStyle.setUiPriority(indentNumber);
-
-        CTOnOff onoffnull = CTOnOff.Factory.newInstance();
-        ctStyle.setUnhideWhenUsed(onoffnull);
-
-        // style shows up in the formats bar
-        ctStyle.setQFormat(onoffnull);
-
-        // style defines a heading of the given level
-        CTPPrGeneral ppr = CTPPrGeneral.Factory.newInstance();
-        ppr.setOutlineLvl(indentNumber);
-        ctStyle.setPPr(ppr);
-
-        XWPFStyle style = new XWPFStyle(ctStyle);
-
-        // is a null op if already defined
-        XWPFStyles styles = docxDocument.createStyles();
-
-        style.setType(STStyleType.PARAGRAPH);
-        styles.addStyle(style);
-
-    }
-
     public static class Accident {
         private final String hierarchy;
         private final String severity;
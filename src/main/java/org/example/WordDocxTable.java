@@ -3,13 +3,13 @@ package org.example;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
 
 import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
 import org.apache.poi.xwpf.usermodel.UnderlinePatterns;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.apache.poi.xwpf.usermodel.XWPFRun;
-import org.apache.poi.xwpf.usermodel.XWPFTable;
 
 public class WordDocxTable {
 
@@ -20,48 +20,17 @@ public class WordDocxTable {
     public static void createTableWord(final String fileName) {
         XWPFDocument doc = new XWPFDocument();
         try {
-            // create table with 3 rows and 4 columns
-            XWPFTable table = doc.createTable(3, 4);
-
-            // write to first row, first column
-            XWPFParagraph p1 = table.getRow(0).getCell(0).getParagraphs().get(0);
-            p1.setAlignment(ParagraphAlignment.CENTER);
-            XWPFRun r1 = p1.createRun();
-            r1.setBold(true);
-            r1.setText("ID");
-
-            // write to first row, second column
-            XWPFParagraph p2 = table.getRow(0).getCell(1).getParagraphs().get(0);
-            p2.setAlignment(ParagraphAlignment.CENTER);
-            XWPFRun r2 = p2.createRun();
-            r2.setBold(true);
-            r2.setText("First Name");
-
-            // write to first row, third column
-            XWPFParagraph p3 = table.getRow(0).getCell(2).getParagraphs().get(0);
-            p3.setAlignment(ParagraphAlignment.CENTER);
-            XWPFRun r3 = p3.createRun();
-            r3.setBold(true);
-            r3.setText("Last Name");
-
-            // write to first row, fourth column
-            XWPFParagraph p4 = table.getRow(0).getCell(3).getParagraphs().get(0);
-            p4.setAlignment(ParagraphAlignment.CENTER);
-            XWPFRun r4 = p4.createRun();
-            r4.setBold(true);
-            r4.setText("Email");
-
-            // write to second row
-            table.getRow(1).getCell(0).setText("1000");
-            table.getRow(1).getCell(1).setText("Soumitra");
-            table.getRow(1).getCell(2).setText("Roy");
-            table.getRow(1).getCell(3).setText("email@email.com");
-
-            // write to third row
-            table.getRow(2).getCell(0).setText("1001");
-            table.getRow(2).getCell(1).setText("John");
-            table.getRow(2).getCell(2).setText("Joe");
-            table.getRow(2).getCell(3).setText("email@email.com");
+            // create table with header row and 4 columns
+            TableBuilder builder = new TableBuilder()
+                    .addColumn("ID")
+                    .addColumn("First Name")
+                    .addColumn("Last Name")
+                    .addColumn("Email");
+
+            // write data rows
+            builder.build(doc, List.of(
+                    new String[]{"1000", "Soumitra", "Roy", "email@email.com"},
+                    new String[]{"1001", "John", "Joe", "email@email.com"}));
 
             // create a paragraph with Strike-Through text
             XWPFParagraph p5 = doc.createParagraph();
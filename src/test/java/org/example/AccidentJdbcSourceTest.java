@@ -0,0 +1,142 @@
+package org.example;
+
+import org.example.TxtToDocxConverter.Accident;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AccidentJdbcSourceTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:alarms;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE");
+        try (Statement statement = connection.createStatement()) {
+            // Порядок колонок совпадает с выгрузкой COPY, которую разбирает parseSqlFile
+            statement.execute("CREATE TABLE alarmdataentity ("
+                    + "id INTEGER, severity VARCHAR, namerus VARCHAR, name VARCHAR, description VARCHAR, "
+                    + "operatoraction VARCHAR, eventtype VARCHAR, eventcategory VARCHAR, probablecause VARCHAR, "
+                    + "hierarchy VARCHAR)");
+            statement.execute("CREATE TABLE alarmeventcategory (id VARCHAR, name VARCHAR)");
+            statement.execute("INSERT INTO alarmeventcategory VALUES ('5', 'Equipment alarm'), ('7', 'Security alarm')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void translatesRowsThroughSharedTables() throws SQLException {
+        insertAlarm(1, "MAJOR", "Потеря сигнала", "Нет сигнала", "Проверить линию",
+                "Communication alarm", "[\"5\"]", "SDH_Alarm_References");
+
+        List<Accident> accidents = new AccidentJdbcSource(connection).readAccidents();
+
+        assertEquals(1, accidents.size());
+        Accident accident = accidents.get(0);
+        assertEquals("SDH_Alarm_References", accident.getHierarchy());
+        assertEquals("Серьезная", accident.getSeverity());
+        assertEquals("Авария связи", accident.getEventType());
+        assertEquals("Сигнализация оборудования", accident.getCategory());
+        assertEquals("Потеря сигнала", accident.getNameRus());
+        assertEquals("Нет сигнала", accident.getDescription());
+        assertEquals("Проверить линию", accident.getOperatorAction());
+    }
+
+    @Test
+    void keepsUnknownCategoryAndSeverityAsIs() throws SQLException {
+        insertAlarm(1, "INDETERMINATE", "Авария", "Описание", "Действия",
+                "Unknown alarm", "[\"42\"]", "OTN_Alarm_References");
+
+        Accident accident = new AccidentJdbcSource(connection).readAccidents().get(0);
+
+        assertEquals("INDETERMINATE", accident.getSeverity());
+        assertEquals("Unknown alarm", accident.getEventType());
+        assertEquals("42", accident.getCategory());
+    }
+
+    @Test
+    void replacesNullsWithDash() throws SQLException {
+        insertAlarm(1, null, null, null, null, null, null, "NMS_Alarm_References");
+
+        Accident accident = new AccidentJdbcSource(connection).readAccidents().get(0);
+
+        assertEquals("-", accident.getSeverity());
+        assertEquals("-", accident.getNameRus());
+        assertEquals("-", accident.getDescription());
+        assertEquals("-", accident.getOperatorAction());
+        assertEquals("-", accident.getEventType());
+        assertEquals("-", accident.getCategory());
+    }
+
+    @Test
+    void skipsRowsWithUnknownHierarchy() throws SQLException {
+        insertAlarm(1, "MINOR", "Первая", "-", "-", "Heart beat", "[\"7\"]", "PDH_Alarm_References");
+        insertAlarm(2, "MINOR", "Лишняя", "-", "-", "Heart beat", "[\"7\"]", "Unknown_Alarm_References");
+        insertAlarm(3, "MINOR", "Без раздела", "-", "-", "Heart beat", "[\"7\"]", null);
+
+        List<Accident> accidents = new AccidentJdbcSource(connection, 1).readAccidents();
+
+        assertEquals(1, accidents.size());
+        assertEquals("Первая", accidents.get(0).getNameRus());
+        assertEquals("Сигнал об ошибке безопасности", accidents.get(0).getCategory());
+    }
+
+    @Test
+    void leavesCallerTransactionOpen() throws SQLException {
+        connection.setAutoCommit(false);
+        insertAlarm(1, "WARNING", "Незафиксированная", "-", "-", "Over limit", "[]", "Agent_Alarm_References");
+
+        List<Accident> accidents = new AccidentJdbcSource(connection).readAccidents();
+        assertEquals(1, accidents.size());
+        assertFalse(connection.getAutoCommit());
+
+        // Чтение не должно было зафиксировать вставку вызывающего кода
+        connection.rollback();
+        connection.setAutoCommit(true);
+        assertEquals(0, new AccidentJdbcSource(connection).readAccidents().size());
+    }
+
+    @Test
+    void rejectsTableWithTooFewColumns() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE alarmdataentity");
+            statement.execute("CREATE TABLE alarmdataentity (id INTEGER, severity VARCHAR)");
+        }
+
+        assertThrows(SQLException.class, () -> new AccidentJdbcSource(connection).readAccidents());
+    }
+
+    private void insertAlarm(int id, String severity, String nameRus, String description, String operatorAction,
+                             String eventType, String category, String hierarchy) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO alarmdataentity VALUES (?, ?, ?, NULL, ?, ?, ?, ?, NULL, ?)")) {
+            statement.setInt(1, id);
+            statement.setString(2, severity);
+            statement.setString(3, nameRus);
+            statement.setString(4, description);
+            statement.setString(5, operatorAction);
+            statement.setString(6, eventType);
+            statement.setString(7, category);
+            statement.setString(8, hierarchy);
+            statement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.example;
+
+import io.airlift.compress.zstd.ZstdOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompressedInputTest {
+
+    private static final int THREADS = 4;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void detectsFormatBySignature() {
+        assertEquals(CompressedInput.Format.GZIP, CompressedInput.detectFormat(bytes(0x1F, 0x8B, 0x08, 0x00), 4));
+        assertEquals(CompressedInput.Format.ZSTD, CompressedInput.detectFormat(bytes(0x28, 0xB5, 0x2F, 0xFD), 4));
+        assertEquals(CompressedInput.Format.PLAIN, CompressedInput.detectFormat("COPY".getBytes(StandardCharsets.US_ASCII), 4));
+        // Обрезанная сигнатура zstd — обычный текст
+        assertEquals(CompressedInput.Format.PLAIN, CompressedInput.detectFormat(bytes(0x28, 0xB5, 0x2F, 0xFD), 3));
+        assertEquals(CompressedInput.Format.PLAIN, CompressedInput.detectFormat(new byte[0], 0));
+    }
+
+    @Test
+    void opensPlainGzipAndZstd() throws IOException {
+        byte[] data = text(100_000, 1);
+
+        Path plain = write("plain.sql", data);
+        ByteArrayOutputStream zstd = new ByteArrayOutputStream();
+        try (OutputStream out = new ZstdOutputStream(zstd)) {
+            out.write(data);
+        }
+        Path zst = write("dump.sql.zst", zstd.toByteArray());
+        Path gz = write("dump.sql.gz", gzip(data, Deflater.DEFAULT_COMPRESSION));
+
+        assertEquals(CompressedInput.Format.PLAIN, CompressedInput.detectFormat(plain));
+        assertEquals(CompressedInput.Format.ZSTD, CompressedInput.detectFormat(zst));
+        assertEquals(CompressedInput.Format.GZIP, CompressedInput.detectFormat(gz));
+        for (Path path : new Path[]{plain, zst, gz}) {
+            try (InputStream in = CompressedInput.open(path)) {
+                assertArrayEquals(data, in.readAllBytes(), path.toString());
+            }
+        }
+    }
+
+    @Test
+    void inflatesMembersInOrder() throws IOException {
+        // Каждый член больше порции распаковки, членов больше окна
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        for (int i = 0; i < THREADS * 3; i++) {
+            byte[] member = text(600_000 + i * 1000, i);
+            expected.write(member);
+            file.write(gzip(member, Deflater.BEST_SPEED));
+        }
+
+        assertArrayEquals(expected.toByteArray(), readParallel(write("multi.gz", file.toByteArray())));
+    }
+
+    @Test
+    void readsSingleMemberSequentially() throws IOException {
+        byte[] data = text(1_000_000, 7);
+
+        try (ParallelGzipInputStream in = new ParallelGzipInputStream(
+                write("single.gz", gzip(data, Deflater.DEFAULT_COMPRESSION)), THREADS)) {
+            assertTrue(in.isSequential());
+            assertArrayEquals(data, readAll(in));
+        }
+    }
+
+    @Test
+    void keepsInflatingInParallelAfterFalseHeader() throws IOException {
+        // Несжатый член содержит сигнатуру заголовка gzip в данных, за ним еще несколько членов
+        byte[] first = text(500_000, 3);
+        byte[] fake = bytes(0x1F, 0x8B, 0x08, 0x00);
+        System.arraycopy(fake, 0, first, 300_000, fake.length);
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        expected.write(first);
+        file.write(gzip(first, Deflater.NO_COMPRESSION));
+        for (int i = 0; i < THREADS * 2; i++) {
+            byte[] member = text(300_000, 100 + i);
+            expected.write(member);
+            file.write(gzip(member, Deflater.BEST_SPEED));
+        }
+
+        try (ParallelGzipInputStream in = new ParallelGzipInputStream(write("fake.gz", file.toByteArray()), THREADS)) {
+            assertArrayEquals(expected.toByteArray(), readAll(in));
+            assertFalse(in.isSequential());
+        }
+    }
+
+    @Test
+    void readsFilesWithoutFalseHeadersInParallel() throws IOException {
+        byte[] first = text(300_000, 10);
+        byte[] second = text(300_000, 11);
+
+        Path path = write("pair.gz", concat(gzip(first, Deflater.BEST_SPEED), gzip(second, Deflater.BEST_SPEED)));
+        try (ParallelGzipInputStream in = new ParallelGzipInputStream(path, THREADS)) {
+            assertArrayEquals(concat(first, second), readAll(in));
+            assertFalse(in.isSequential());
+        }
+        // Файл не держится открытым после закрытия потока
+        Files.delete(path);
+    }
+
+    @Test
+    void ignoresTrailingPadding() throws IOException {
+        byte[] first = text(400_000, 5);
+        byte[] second = text(400_000, 6);
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        file.write(gzip(first, Deflater.BEST_SPEED));
+        file.write(gzip(second, Deflater.BEST_SPEED));
+        file.write(new byte[512]);
+
+        assertArrayEquals(concat(first, second), readParallel(write("padded.gz", file.toByteArray())));
+    }
+
+    @Test
+    void rejectsCorruptMember() throws IOException {
+        byte[] first = gzip(text(400_000, 8), Deflater.BEST_SPEED);
+        byte[] second = gzip(text(400_000, 9), Deflater.BEST_SPEED);
+        // Портим CRC в трейлере первого члена
+        first[first.length - 8] ^= 0x55;
+
+        Path path = write("corrupt.gz", concat(first, second));
+
+        assertThrows(IOException.class, () -> readParallel(path));
+    }
+
+    private byte[] readParallel(Path path) throws IOException {
+        try (InputStream in = new ParallelGzipInputStream(path, THREADS)) {
+            return readAll(in);
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[10_000];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private Path write(String name, byte[] data) throws IOException {
+        return Files.write(dir.resolve(name), data);
+    }
+
+    private static byte[] gzip(byte[] data, int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    // Похожие на дамп строки: сжимаются, но не вырождаются в повтор одного блока
+    private static byte[] text(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder(length + 100);
+        while (sb.length() < length) {
+            sb.append(random.nextInt(100_000)).append("\tMAJOR\tАвария ").append(random.nextInt(1000)).append('\n');
+        }
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] result = new byte[length];
+        System.arraycopy(bytes, 0, result, 0, length);
+        return result;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
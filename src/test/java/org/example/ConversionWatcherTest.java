@@ -0,0 +1,171 @@
+package org.example;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConversionWatcherTest {
+
+    private static final long DEBOUNCE_MILLIS = 500;
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path dir;
+
+    private Path sqlFile;
+    private Path templateFile;
+    private ConversionWatcher watcher;
+    private Thread watchThread;
+
+    // Содержимое дампа на момент каждой конвертации
+    private final List<String> conversions = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        sqlFile = Files.writeString(dir.resolve("alarm_data.sql"), "v1");
+        templateFile = Files.writeString(dir.resolve("nms1.docx"), "template");
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (watchThread != null) {
+            watchThread.interrupt();
+            watchThread.join(TIMEOUT_MILLIS);
+        }
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void touchWithoutChangeDoesNotReconvert() throws Exception {
+        startWatching();
+        awaitConversions(1);
+
+        Files.writeString(sqlFile, "v1");
+        Files.setLastModifiedTime(templateFile, FileTime.fromMillis(System.currentTimeMillis()));
+        Thread.sleep(DEBOUNCE_MILLIS * 3);
+        assertEquals(List.of("v1"), conversions);
+
+        // Наблюдение при этом работает: настоящее изменение подхватывается
+        Files.writeString(sqlFile, "v2");
+        awaitConversions(2);
+        assertEquals(List.of("v1", "v2"), conversions);
+    }
+
+    @Test
+    void burstOfWritesConvertsOnce() throws Exception {
+        startWatching();
+        awaitConversions(1);
+
+        for (int i = 2; i <= 6; i++) {
+            Files.writeString(sqlFile, "v" + i);
+            // Посторонние файлы в том же каталоге не влияют на debounce
+            Files.writeString(dir.resolve("alarmD.html.tmp"), "tmp" + i);
+            Thread.sleep(DEBOUNCE_MILLIS / 10);
+        }
+
+        awaitConversions(2);
+        Thread.sleep(DEBOUNCE_MILLIS * 3);
+        assertEquals(List.of("v1", "v6"), conversions);
+    }
+
+    @Test
+    void unrelatedActivityDoesNotHoldOffConversion() throws Exception {
+        startWatching();
+        awaitConversions(1);
+
+        Files.writeString(sqlFile, "v2");
+        // Посторонний файл меняется чаще, чем длится debounce, и дольше него
+        long until = System.currentTimeMillis() + DEBOUNCE_MILLIS * 4;
+        int i = 0;
+        while (System.currentTimeMillis() < until && conversions.size() < 2) {
+            Files.writeString(dir.resolve("other.log"), "line" + i++);
+            Thread.sleep(DEBOUNCE_MILLIS / 10);
+        }
+
+        assertEquals(List.of("v1", "v2"), conversions);
+    }
+
+    @Test
+    void requestsDuringConversionCollapseIntoOneRerun() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger runs = new AtomicInteger();
+
+        watcher = new ConversionWatcher(sqlFile, templateFile, DEBOUNCE_MILLIS, (sql, template) -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                int run = runs.incrementAndGet();
+                if (run == 1) {
+                    started.countDown();
+                    release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                // Дамп меняется на каждой сборке, чтобы любой лишний повтор тоже дошел до конвертации
+                Files.writeString(sql, "run" + run);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+
+        watcher.requestConversion();
+        assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 5; i++) {
+            watcher.requestConversion();
+        }
+        release.countDown();
+
+        awaitCondition(() -> runs.get() >= 2);
+        Thread.sleep(DEBOUNCE_MILLIS);
+        assertEquals(2, runs.get());
+        assertEquals(1, maxActive.get());
+    }
+
+    private void startWatching() {
+        watcher = new ConversionWatcher(sqlFile, templateFile, DEBOUNCE_MILLIS,
+                (sql, template) -> conversions.add(Files.readString(sql, StandardCharsets.UTF_8)));
+        watchThread = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    private void awaitConversions(int count) throws InterruptedException {
+        awaitCondition(() -> conversions.size() >= count);
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Конвертация не дождалась");
+            Thread.sleep(20);
+        }
+    }
+}
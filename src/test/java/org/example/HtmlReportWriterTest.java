@@ -0,0 +1,39 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HtmlReportWriterTest {
+
+    @Test
+    void escapesMarkupCharacters() {
+        assertEquals("&lt;b&gt;Tom &amp; &quot;Jerry&quot;&lt;/b&gt;", HtmlReportWriter.escape("<b>Tom & \"Jerry\"</b>"));
+        assertEquals("Авария связи", HtmlReportWriter.escape("Авария связи"));
+    }
+
+    @Test
+    void writesEscapedBlocks() throws IOException {
+        Report report = new Report("АВАРИИ");
+        Report.Section section = report.addSection("АВАРИИ: SDH");
+        section.addHeading("1.1", "Порог <min>");
+        section.addKeyValueTable(List.<String[]>of(new String[]{"Тип события:", "A & B"}));
+        section.addParagraph("Описание аварии: ", List.of("Первая строка.", "Вторая"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new HtmlReportWriter().write(report, out);
+        String html = out.toString(StandardCharsets.UTF_8);
+
+        assertTrue(html.contains("<h2 id=\"h1.1\">1.1 Порог &lt;min&gt;</h2>"));
+        assertTrue(html.contains("<tr><th>Тип события:</th><td>A &amp; B</td></tr>"));
+        assertTrue(html.contains("<p><strong>Описание аварии: </strong><br>\nПервая строка.<br>\nВторая</p>"));
+        assertFalse(html.contains("<min>"));
+    }
+}
@@ -0,0 +1,49 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MarkdownReportWriterTest {
+
+    @Test
+    void escapesListMarkersOnlyAtLineStart() {
+        assertEquals("\\- пункт", MarkdownReportWriter.escape("- пункт"));
+        assertEquals("\\+ пункт", MarkdownReportWriter.escape("+ пункт"));
+        assertEquals("A - B + C", MarkdownReportWriter.escape("A - B + C"));
+    }
+
+    @Test
+    void escapesMarkdownSyntax() {
+        assertEquals("\\# \\*важно\\* \\_x\\_ \\[ссылка\\]", MarkdownReportWriter.escape("# *важно* _x_ [ссылка]"));
+        assertEquals("a\\|b \\`code\\` \\\\", MarkdownReportWriter.escape("a|b `code` \\"));
+    }
+
+    @Test
+    void turnsNewlinesIntoHardBreaks() {
+        assertEquals("первая  \nвторая  \n\\- третья", MarkdownReportWriter.escape("первая\nвторая\n- третья"));
+    }
+
+    @Test
+    void writesBlocks() throws IOException {
+        Report report = new Report("АВАРИИ");
+        Report.Section section = report.addSection("АВАРИИ: SDH");
+        section.addHeading("1.1", "Потеря сигнала");
+        section.addKeyValueTable(List.<String[]>of(new String[]{"Серьезность аварии:", "Серьезная"}));
+        section.addParagraph("Действия оператора: ", List.of("Проверить линию.", "- Заменить модуль"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MarkdownReportWriter().write(report, out);
+
+        assertEquals("# АВАРИИ: SDH\n\n"
+                        + "## 1.1 Потеря сигнала\n\n"
+                        + "- **Серьезность аварии:** Серьезная\n\n"
+                        + "**Действия оператора:**  \nПроверить линию.  \n\\- Заменить модуль\n\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+}
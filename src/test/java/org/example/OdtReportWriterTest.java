@@ -0,0 +1,110 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class OdtReportWriterTest {
+
+    private static final String MIMETYPE = "application/vnd.oasis.opendocument.text";
+    private static final String TEXT_NS = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+    private static final String TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+
+    @Test
+    void writesStoredMimetypeFirst() throws Exception {
+        byte[] odt = write(sampleReport());
+
+        // Сигнатуру ODF проверяют по фиксированному смещению: имя с 30-го байта, значение сразу за ним
+        assertEquals("mimetype" + MIMETYPE, new String(odt, 30, 8 + MIMETYPE.length(), StandardCharsets.US_ASCII));
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(odt))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertEquals("mimetype", entry.getName());
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+            byte[] content = zip.readAllBytes();
+            assertEquals(MIMETYPE, new String(content, StandardCharsets.US_ASCII));
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            assertEquals(crc.getValue(), entry.getCrc());
+        }
+    }
+
+    @Test
+    void writesWellFormedXml() throws Exception {
+        Map<String, byte[]> entries = readEntries(write(sampleReport()));
+
+        assertNotNull(parse(entries.get("styles.xml")));
+        assertNotNull(parse(entries.get("META-INF/manifest.xml")));
+
+        Document content = parse(entries.get("content.xml"));
+        assertEquals("1.1 Порог <min> & \"max\"", content.getElementsByTagNameNS(TEXT_NS, "h").item(1).getTextContent());
+        assertEquals(1, content.getElementsByTagNameNS(TABLE_NS, "table").getLength());
+        assertEquals(2, content.getElementsByTagNameNS(TABLE_NS, "table-row").getLength());
+        assertEquals(2, content.getElementsByTagNameNS(TEXT_NS, "line-break").getLength());
+    }
+
+    @Test
+    void leavesCallerStreamOpen() throws IOException {
+        boolean[] closed = new boolean[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        new OdtReportWriter().write(sampleReport(), out);
+
+        assertFalse(closed[0]);
+        assertEquals(4, readEntries(out.toByteArray()).size());
+    }
+
+    private static Report sampleReport() {
+        Report report = new Report("АВАРИИ");
+        Report.Section section = report.addSection("АВАРИИ: SDH");
+        section.addHeading("1.1", "Порог <min> & \"max\"");
+        section.addKeyValueTable(List.of(
+                new String[]{"Серьезность аварии:", "Серьезная"},
+                new String[]{"Тип события:", "Авария связи"}));
+        section.addParagraph("Описание аварии: ", List.of("Нет сигнала.", "Проверить линию"));
+        return report;
+    }
+
+    private static byte[] write(Report report) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new OdtReportWriter().write(report, out);
+        return out.toByteArray();
+    }
+
+    private static Map<String, byte[]> readEntries(byte[] odt) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(odt))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+}
@@ -0,0 +1,109 @@
+package org.example;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Замер стоимости одной строки таблицы при росте размера таблицы.
+ * Для сравнения печатается и прежний способ — заполнение через
+ * {@code createRow().getCell(j)}. Отдельно замеряется документ из множества
+ * маленьких таблиц, как в отчете по авариям (одна таблица на аварию).
+ * <p>
+ * Лежит в тестовых исходниках, чтобы не попадать в jar; запускается вручную через {@code main}.
+ */
+public class TableBuilderBenchmark {
+
+    private static final int[] ROW_COUNTS = {1_000, 10_000, 100_000};
+    private static final int COLUMNS = 4;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int[] TABLE_COUNTS = {1_000, 5_000, 20_000};
+
+    public static void main(String[] args) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            measureBuilder(ROW_COUNTS[0]);
+            measureCellByCell(ROW_COUNTS[0]);
+        }
+
+        System.out.printf("%10s %18s %18s %18s%n", "строк", "builder, нс/стр", "запись, нс/стр", "по ячейкам, нс/стр");
+        for (int rowCount : ROW_COUNTS) {
+            long[] builder = measureBuilder(rowCount);
+            long cellByCell = measureCellByCell(rowCount);
+            System.out.printf("%10d %18d %18d %18d%n",
+                    rowCount, builder[0] / rowCount, builder[1] / rowCount, cellByCell / rowCount);
+        }
+
+        System.out.println();
+        System.out.printf("%10s %18s%n", "таблиц", "нс/таблицу");
+        for (int tableCount : TABLE_COUNTS) {
+            System.out.printf("%10d %18d%n", tableCount, measureManyTables(tableCount) / tableCount);
+        }
+    }
+
+    private static long measureManyTables(int tableCount) throws IOException {
+        List<String[]> rows = List.of(new String[]{"Важность:", "Серьезная"}, new String[]{"Тип события:", "Авария связи"});
+        TableBuilder builder = new TableBuilder()
+                .addColumn("Параметр", true)
+                .addColumn("Значение")
+                .withoutHeaderRow()
+                .withoutBorders();
+
+        try (XWPFDocument document = new XWPFDocument()) {
+            long start = System.nanoTime();
+            for (int i = 0; i < tableCount; i++) {
+                builder.build(document, rows);
+            }
+            return System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * @return время построения таблицы и время записи документа, нс
+     */
+    private static long[] measureBuilder(int rowCount) throws IOException {
+        List<String[]> rows = createRows(rowCount);
+        TableBuilder builder = new TableBuilder()
+                .addColumn("ID")
+                .addColumn("First Name")
+                .addColumn("Last Name")
+                .addColumn("Email");
+
+        try (XWPFDocument document = new XWPFDocument()) {
+            long start = System.nanoTime();
+            builder.build(document, rows);
+            long built = System.nanoTime();
+            document.write(OutputStream.nullOutputStream());
+            long written = System.nanoTime();
+            return new long[]{built - start, written - built};
+        }
+    }
+
+    private static long measureCellByCell(int rowCount) throws IOException {
+        List<String[]> rows = createRows(rowCount);
+
+        try (XWPFDocument document = new XWPFDocument()) {
+            long start = System.nanoTime();
+            XWPFTable table = document.createTable(1, COLUMNS);
+            for (String[] values : rows) {
+                XWPFTableRow row = table.createRow();
+                for (int j = 0; j < COLUMNS; j++) {
+                    row.getCell(j).getParagraphs().get(0).createRun().setText(values[j]);
+                }
+            }
+            return System.nanoTime() - start;
+        }
+    }
+
+    private static List<String[]> createRows(int rowCount) {
+        List<String[]> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new String[]{String.valueOf(i), "First" + i, "Last" + i, "user" + i + "@example.com"});
+        }
+        return rows;
+    }
+}
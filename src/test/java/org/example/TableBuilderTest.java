@@ -0,0 +1,83 @@
+package org.example;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.junit.jupiter.api.Test;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTTbl;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STBorder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableBuilderTest {
+
+    private static final TableBuilder KEY_VALUE = new TableBuilder()
+            .addColumn("Параметр", true)
+            .addColumn("Значение")
+            .withoutHeaderRow()
+            .withoutBorders();
+
+    @Test
+    void skipsEmptyHeaderlessTable() throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            assertNull(KEY_VALUE.build(document, List.of()));
+            assertTrue(document.getTables().isEmpty());
+            assertEquals(0, document.getDocument().getBody().sizeOfTblArray());
+        }
+    }
+
+    @Test
+    void keepsHeaderRowForEmptyBatch() throws IOException {
+        TableBuilder builder = new TableBuilder().addColumn("ID").addColumn("Email");
+
+        try (XWPFDocument document = new XWPFDocument()) {
+            CTTbl ctTbl = builder.build(document, List.of());
+
+            assertEquals(1, ctTbl.sizeOfTrArray());
+            assertEquals("Email", ctTbl.getTrArray(0).getTcArray(1).getPArray(0).getRArray(0).getTArray(0).getStringValue());
+        }
+    }
+
+    @Test
+    void writesOnlyBuilderRowsAndProperties() throws IOException {
+        try (XWPFDocument document = new XWPFDocument()) {
+            CTTbl ctTbl = KEY_VALUE.build(document, List.of(
+                    new String[]{"Важность:", "Серьезная"},
+                    new String[]{"Тип:"}));
+
+            assertEquals(2, ctTbl.sizeOfTrArray());
+            assertEquals(2, ctTbl.getTblGrid().sizeOfGridColArray());
+            assertEquals(STBorder.NONE, ctTbl.getTblPr().getTblBorders().getTop().getVal());
+            assertEquals(1, document.getDocument().getBody().sizeOfTblArray());
+            // Обертка без строк в модель документа не попадает
+            assertTrue(document.getTables().isEmpty());
+        }
+    }
+
+    @Test
+    void readsBackTablesInOrder() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XWPFDocument document = new XWPFDocument()) {
+            for (int i = 0; i < 3; i++) {
+                KEY_VALUE.build(document, List.<String[]>of(new String[]{"Номер:", String.valueOf(i)}));
+                document.createParagraph();
+            }
+            document.write(out);
+        }
+
+        try (XWPFDocument document = new XWPFDocument(new ByteArrayInputStream(out.toByteArray()))) {
+            List<XWPFTable> tables = document.getTables();
+            assertEquals(3, tables.size());
+            for (int i = 0; i < tables.size(); i++) {
+                assertEquals(1, tables.get(i).getNumberOfRows());
+                assertEquals(String.valueOf(i), tables.get(i).getRow(0).getCell(1).getText());
+            }
+        }
+    }
+}
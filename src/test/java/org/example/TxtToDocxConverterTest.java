@@ -0,0 +1,79 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TxtToDocxConverterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writesEveryFormatByExtension() throws IOException {
+        String base = dir.resolve("alarmD").toString();
+
+        TxtToDocxConverter.writeReports(sampleReport(), base,
+                List.of(new HtmlReportWriter(), new MarkdownReportWriter(), new OdtReportWriter()));
+
+        assertTrue(Files.readString(dir.resolve("alarmD.html")).contains("Потеря сигнала"));
+        assertTrue(Files.readString(dir.resolve("alarmD.md")).contains("Потеря сигнала"));
+        assertTrue(Files.size(dir.resolve("alarmD.odt")) > 0);
+        assertEquals(List.of(), tempFiles());
+    }
+
+    @Test
+    void keepsOldOutputOfFailedWriterAndReplacesOthers() throws IOException {
+        String base = dir.resolve("alarmD").toString();
+        for (String extension : List.of("html", "md", "broken")) {
+            Files.writeString(dir.resolve("alarmD." + extension), "old");
+        }
+
+        IOException error = assertThrows(IOException.class, () -> TxtToDocxConverter.writeReports(sampleReport(), base,
+                List.of(new HtmlReportWriter(), new FailingWriter(), new MarkdownReportWriter())));
+
+        assertTrue(error.getMessage().contains("alarmD.broken"), error.getMessage());
+        assertEquals("old", Files.readString(dir.resolve("alarmD.broken")));
+        assertTrue(Files.readString(dir.resolve("alarmD.html")).contains("Потеря сигнала"));
+        assertTrue(Files.readString(dir.resolve("alarmD.md")).contains("Потеря сигнала"));
+        assertEquals(List.of(), tempFiles());
+    }
+
+    private List<Path> tempFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".tmp")).toList();
+        }
+    }
+
+    private static Report sampleReport() {
+        Report report = new Report("АВАРИИ");
+        report.addSection("АВАРИИ: SDH").addHeading("1.1", "Потеря сигнала");
+        return report;
+    }
+
+    // Успевает записать часть отчета и падает
+    private static class FailingWriter implements ReportWriter {
+
+        @Override
+        public String getExtension() {
+            return "broken";
+        }
+
+        @Override
+        public void write(Report report, OutputStream out) throws IOException {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Диск переполнен");
+        }
+    }
+}